@@ -0,0 +1,130 @@
+package com.juvis.juvis._core.filter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis._core.util.JwtUtil;
+import com.juvis.juvis.user.LoginUser;
+import com.juvis.juvis.user.User;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * JwtAuthorizationFilter 요청당 비용 비교 (같은 Bearer 토큰 반복 요청)
+ * - legacy : 요청마다 HMAC512/JWTVerifier 생성 + 검증 + User → LoginUser (변경 전 경로)
+ * - noCache: 공유 verifier, 캐시 없음 (매 요청 검증)
+ * - cached : 공유 verifier + 토큰 캐시 (현재 필터)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthorizationFilterBenchmark {
+
+    private String authHeader;
+
+    private OncePerRequestFilter legacyFilter;
+    private JwtAuthorizationFilter cachedFilter;
+    private JwtAuthorizationFilter noCacheFilter;
+
+    @Setup
+    public void setup() {
+        User user = User.builder()
+                .id(1)
+                .username("bench-hq")
+                .role(UserRole.HQ)
+                .build();
+
+        authHeader = JwtUtil.createAccessToken(user);
+
+        legacyFilter = new LegacyJwtAuthorizationFilter();
+        cachedFilter = new JwtAuthorizationFilter();
+        noCacheFilter = new JwtAuthorizationFilter(new JwtLoginUserCache(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object legacy() throws Exception {
+        return runFilter(legacyFilter);
+    }
+
+    @Benchmark
+    public Object noCache() throws Exception {
+        return runFilter(noCacheFilter);
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(OncePerRequestFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/hq/maintenance/requests");
+        request.addHeader(JwtUtil.HEADER, authHeader);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // 변경 전 doFilterInternal 본문 (비교 기준)
+    private static class LegacyJwtAuthorizationFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+
+            String authHeader = request.getHeader(JwtUtil.HEADER);
+            String token = authHeader.replace(JwtUtil.TOKEN_PREFIX, "");
+
+            DecodedJWT decoded = JWT.require(Algorithm.HMAC512(JwtUtil.SECRET))
+                    .build()
+                    .verify(token);
+
+            User user = User.builder()
+                    .id(decoded.getClaim("id").asInt())
+                    .username(decoded.getSubject())
+                    .role(UserRole.valueOf(decoded.getClaim("role").asString()))
+                    .build();
+
+            var principal = new LoginUser(user.getId(), user.getUsername(), user.getRole());
+            var authentication = new UsernamePasswordAuthenticationToken(
+                    principal,
+                    null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.juvis.juvis._core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// ✅ @Async(커밋 후 푸시 발송) / @Scheduled(outbox 재시도 폴링) 활성화
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+}
@@ -6,6 +6,8 @@ import com.juvis.juvis._core.filter.JwtAuthorizationFilter;
 
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -60,8 +62,12 @@ public class SecurityConfig {
         http.authorizeHttpRequests(authorize -> authorize
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
-                // ✅ actuator는 무조건 공개 (헬스체크)
-                .requestMatchers("/actuator/**").permitAll()
+                // ✅ async 재디스패치(SSE 종료 등)는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                // ✅ actuator: 헬스체크/info만 공개, metrics 등 나머지는 HQ 토큰 필요 (JVM/DB/요청 URI 노출 방지)
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("HQ")
 
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/docs/**").permitAll()
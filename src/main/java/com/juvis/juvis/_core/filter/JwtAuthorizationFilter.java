@@ -2,7 +2,6 @@ package com.juvis.juvis._core.filter;
 
 import com.juvis.juvis._core.util.JwtUtil;
 import com.juvis.juvis.user.LoginUser;
-import com.juvis.juvis.user.User;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,12 +18,22 @@ import java.util.List;
 
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    private final JwtLoginUserCache loginUserCache;
+
+    public JwtAuthorizationFilter() {
+        this(new JwtLoginUserCache());
+    }
+
+    public JwtAuthorizationFilter(JwtLoginUserCache loginUserCache) {
+        this.loginUserCache = loginUserCache;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String uri = request.getRequestURI();
 
-        // ✅ Actuator는 JWT 필터 완전 제외
-        if (uri.startsWith("/actuator/"))
+        // ✅ 공개 actuator(헬스체크/info)만 JWT 필터 제외 (metrics 등은 토큰 검사)
+        if (uri.equals("/actuator/health") || uri.startsWith("/actuator/health/") || uri.equals("/actuator/info"))
             return true;
 
         // ✅ 인증/문서
@@ -67,15 +76,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         }
 
         try {
-            User user = JwtUtil.verifyAndExtractUser(authHeader);
+            // ✅ 같은 토큰이면 캐시된 LoginUser 사용 (검증은 최초 1회)
+            LoginUser principal = loginUserCache.resolve(authHeader);
 
             var authorities = List.of(
-                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-
-            var principal = new LoginUser(
-                    user.getId(),
-                    user.getUsername(),
-                    user.getRole());
+                    new SimpleGrantedAuthority("ROLE_" + principal.role().name()));
 
             var authentication = new UsernamePasswordAuthenticationToken(
                     principal,
@@ -0,0 +1,73 @@
+package com.juvis.juvis._core.filter;
+
+import java.util.concurrent.TimeUnit;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.juvis.juvis._core.util.JwtUtil;
+import com.juvis.juvis.user.LoginUser;
+
+/**
+ * 검증이 끝난 access token → LoginUser 캐시
+ * - 같은 Bearer 토큰으로 반복 요청 시 HMAC 검증/claim 파싱 생략
+ * - 엔트리 수명 = 토큰 exp 까지 (exp가 지나면 자동 만료 → 다음 요청에서 다시 검증 후 401)
+ * - 검증 실패한 토큰은 캐시하지 않음
+ */
+public class JwtLoginUserCache {
+
+    public static final long DEFAULT_MAX_SIZE = 10_000;
+
+    private record Verified(LoginUser user, long expiresAtMillis) {
+    }
+
+    private final Cache<String, Verified> cache;
+
+    public JwtLoginUserCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public JwtLoginUserCache(long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String token, Verified v, long currentTime) {
+                        long remainMillis = v.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Verified v, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(token, v, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Verified v, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Authorization 헤더("Bearer ...") → LoginUser
+     * 캐시에 없으면 검증 후 저장, 검증 실패 시 JWT 예외 그대로 전파
+     */
+    public LoginUser resolve(String authorizationHeader) {
+        String token = authorizationHeader.substring(JwtUtil.TOKEN_PREFIX.length());
+        return cache.get(token, this::verify).user();
+    }
+
+    private Verified verify(String token) {
+        DecodedJWT decoded = JwtUtil.verifyAccessToken(JwtUtil.TOKEN_PREFIX + token);
+
+        // exp 없는 토큰은 캐시 수명 0 (매번 검증)
+        long expiresAt = decoded.getExpiresAt() == null ? 0L : decoded.getExpiresAt().getTime();
+
+        return new Verified(JwtUtil.toLoginUser(decoded), expiresAt);
+    }
+}
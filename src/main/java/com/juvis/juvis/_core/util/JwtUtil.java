@@ -1,10 +1,12 @@
 package com.juvis.juvis._core.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.juvis.juvis._core.enums.UserRole;
 import com.juvis.juvis._core.error.ex.ExceptionApi401;
+import com.juvis.juvis.user.LoginUser;
 import com.juvis.juvis.user.User;
 
 import java.util.Date;
@@ -20,6 +22,10 @@ public class JwtUtil {
     // Refresh Token: 60일
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 60;
 
+    // ✅ 알고리즘/검증기는 불변 + thread-safe → 한 번만 만들어 재사용
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(SECRET);
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
     // JWT access토큰 생성
     public static String createAccessToken(User user) {
         String jwt = JWT.create()
@@ -27,7 +33,7 @@ public class JwtUtil {
                 .withExpiresAt(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRE_TIME)) // 토큰 만료 시간
                 .withClaim("id", user.getId()) // 사용자 ID 클레임 추가
                 .withClaim("role", user.getRole().name()) // 사용자 역할 클레임 추가
-                .sign(Algorithm.HMAC512(SECRET)); // 비밀 키로 서명
+                .sign(ALGORITHM); // 비밀 키로 서명
 
         return TOKEN_PREFIX + jwt; // "Bearer " 접두사 붙여 반환
     }
@@ -38,7 +44,7 @@ public class JwtUtil {
                 .withSubject(user.getUsername())
                 .withExpiresAt(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRE_TIME))
                 .withClaim("id", user.getId())
-                .sign(Algorithm.HMAC512(SECRET));
+                .sign(ALGORITHM);
     }
 
 
@@ -49,15 +55,19 @@ public class JwtUtil {
 
         String token = authorizationHeader.replace(TOKEN_PREFIX, "");
 
-        return JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(token);
+        return VERIFIER.verify(token);
     }
 
     public static DecodedJWT verifyRefreshToken(String refreshToken) {
-        return JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(refreshToken);
+        return VERIFIER.verify(refreshToken);
+    }
+
+    // ✅ 필터용: 검증된 토큰 → LoginUser (User 엔티티를 거치지 않음)
+    public static LoginUser toLoginUser(DecodedJWT decodedJWT) {
+        return new LoginUser(
+                decodedJWT.getClaim("id").asInt(),
+                decodedJWT.getSubject(),
+                UserRole.valueOf(decodedJWT.getClaim("role").asString()));
     }
 
     public static User verifyAndExtractUser(String authorizationHeader) {
@@ -0,0 +1,32 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * daily_sequence 기반 블록 예약
+ * - REQUIRES_NEW: 요청 생성 트랜잭션과 분리 → daily_sequence 행 락은 예약 순간에만 잡힘
+ * - LAST_INSERT_ID는 커넥션 단위라 같은 트랜잭션(커넥션)에서 바로 읽음
+ * - ⚠️ REQUIRES_NEW는 바깥 생성 트랜잭션의 커넥션을 잡은 채로 풀에서 커넥션을 하나 더 가져옴
+ *   → 블록 예약 순간에는 요청당 커넥션 2개: 동시 생성 수가 풀 크기에 가까우면 서로 대기하다
+ *     connection-timeout으로 실패할 수 있음 (블록 단위 예약이라 예약 자체는 드묾, 풀 크기에 여유 필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class DailySequenceBlockSource implements SequenceBlockSource {
+
+    private final DailySequenceRepository dailySequenceRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(LocalDate day, int blockSize) {
+        dailySequenceRepository.upsertAndAdvance(day, blockSize);
+        long end = dailySequenceRepository.lastSequence();
+        return end - blockSize + 1;
+    }
+}
@@ -5,14 +5,14 @@ import java.time.LocalDate;
 
 public interface DailySequenceRepository extends JpaRepository<DailySequence, LocalDate> {
 
-    // 날짜별 seq 원자적 증가
+    // 날짜별 seq를 blockSize만큼 한 번에 증가 (LAST_INSERT_ID = 블록의 마지막 번호)
     @Modifying
     @Query(value = """
             INSERT INTO daily_sequence (seq_date, seq)
-            VALUES (?1, LAST_INSERT_ID(1))
-            ON DUPLICATE KEY UPDATE seq = LAST_INSERT_ID(seq + 1)
+            VALUES (?1, LAST_INSERT_ID(?2))
+            ON DUPLICATE KEY UPDATE seq = LAST_INSERT_ID(seq + ?2)
             """, nativeQuery = true)
-    void upsertAndIncrement(LocalDate date);
+    void upsertAndAdvance(LocalDate date, int blockSize);
 
     @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
     int lastSequence();
@@ -19,7 +19,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "maintenance_request")
+// ✅ 목록 검색/집계용 인덱스 (V5/V10 migration과 동일, 테스트 스키마(create-drop)에도 반영되도록 선언)
+@Table(name = "maintenance_request", indexes = {
+      @Index(name = "idx_mr_status_created", columnList = "status, created_at"),
+      @Index(name = "idx_mr_branch_created", columnList = "branch_id, created_at"),
+      @Index(name = "idx_mr_completed_created", columnList = "work_completed_at, created_at"),
+      @Index(name = "idx_mr_created", columnList = "created_at"),
+      @Index(name = "idx_mr_estimate_approved", columnList = "estimate_approved_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,7 +65,10 @@ public class Maintenance {
    @Column(length = 200, nullable = false)
    private String title;
 
+   // ✅ 대용량 텍스트(LONGTEXT)는 지연 로딩 (bytecode enhancement 필요, build.gradle hibernate 플러그인)
+   // - 목록/엑셀/상태 전이에서는 읽지 않고, 상세 DTO에서 처음 접근할 때 한 번에 조회
    @Lob
+   @Basic(fetch = FetchType.LAZY)
    private String description;
 
    @Enumerated(EnumType.STRING)
@@ -85,10 +95,20 @@ public class Maintenance {
     * 견적 / 작업 일정
     * =======================
     */
+   // ✅ 승인된 견적 스냅샷 (approveEstimate 시 승인 attempt에서 복사, 작업예정일 포함)
+   // - 엑셀/목록/집계는 attempt 테이블을 다시 조회하지 않고 이 값을 사용
+   @Column(name = "approved_attempt_id")
+   private Long approvedAttemptId;
+
    @Column(name = "estimate_amount", precision = 15, scale = 2)
    private BigDecimal estimateAmount;
 
+   // 최종 견적가 (작업 완료 시 승인 attempt와 함께 저장)
+   @Column(name = "final_amount", precision = 15, scale = 0)
+   private BigDecimal finalAmount;
+
    @Lob
+   @Basic(fetch = FetchType.LAZY)
    @Column(name = "estimate_comment", columnDefinition = "LONGTEXT")
    private String estimateComment;
 
@@ -109,6 +129,7 @@ public class Maintenance {
     * =======================
     */
    @Lob
+   @Basic(fetch = FetchType.LAZY)
    @Column(name = "result_comment", columnDefinition = "LONGTEXT")
    private String resultComment;
 
@@ -158,7 +179,11 @@ public class Maintenance {
     * =======================
     */
    @Column(name = "submitted_at")
-   private LocalDateTime submittedAt;
+   private LocalDateTime submittedAt; // 마지막 제출 (반려 후 재제출 시 갱신)
+
+   // ✅ 최초 제출 (한 번만 기록) → 월별 접수 건수/소요시간 기준
+   @Column(name = "first_submitted_at")
+   private LocalDateTime firstSubmittedAt;
 
    @Column(name = "vendor_submitted_at")
    private LocalDateTime vendorSubmittedAt;
@@ -193,9 +218,17 @@ public class Maintenance {
             .description(dto.getDescription())
             .category(dto.getCategory())
             .status(MaintenanceStatus.REQUESTED)
-            .submittedAt(LocalDateTime.now())
             .estimateResubmitCount(0)
-            .build();
+            .build()
+            .markSubmitted(LocalDateTime.now());
+   }
+
+   // 제출 시각 기록: submittedAt은 매번, firstSubmittedAt은 처음 한 번만
+   public Maintenance markSubmitted(LocalDateTime at) {
+      this.submittedAt = at;
+      if (this.firstSubmittedAt == null)
+         this.firstSubmittedAt = at;
+      return this;
    }
 
    public void changeStatus(MaintenanceStatus next) {
@@ -1,9 +1,7 @@
 package com.juvis.juvis.maintenance;
 
-import java.util.List;
 
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
@@ -21,13 +19,16 @@ import com.juvis.juvis._core.enums.MaintenanceCategory;
 import com.juvis.juvis._core.enums.MaintenanceStatus;
 import com.juvis.juvis._core.enums.UserRole;
 import com.juvis.juvis._core.util.Resp;
+import com.juvis.juvis.maintenance_export.MaintenanceExportCache;
 import com.juvis.juvis.user.LoginUser;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MaintenanceController {
     private final MaintenanceService maintenanceService;
+    private final MaintenanceExportService maintenanceExportService;
+    private final MaintenanceExportCache maintenanceExportCache;
 
     // ========================= BRANCH =========================
 
@@ -62,19 +65,36 @@ public class MaintenanceController {
         return Resp.ok("제출완료");
     }
 
+    // - withTotal=false: total count 없이 Slice(hasNext)만 (첫 페이지 이후 권장)
     @GetMapping("/api/branch/maintenances")
-    public ResponseEntity<Resp<Page<MaintenanceResponse.SimpleDTO>>> getBranchList(
+    public ResponseEntity<?> getBranchList(
             @AuthenticationPrincipal LoginUser loginUser,
 
             @RequestParam(name = "status", required = false) MaintenanceStatus status,
 
             @RequestParam(name = "category", required = false) MaintenanceCategory category,
 
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") boolean withTotal,
+
             @PageableDefault(page = 0, size = 20) @SortDefault.SortDefaults({
                     @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC)
             }) Pageable pageable) {
-        Page<Maintenance> result = maintenanceService.getBranchList(loginUser, status, category, pageable);
-        return Resp.ok(result.map(MaintenanceResponse.SimpleDTO::new));
+        if (!withTotal) {
+            return Resp.ok(new MaintenanceResponse.SliceDTO(
+                    maintenanceService.getBranchSlice(loginUser, status, category, pageable)));
+        }
+        return Resp.ok(maintenanceService.getBranchList(loginUser, status, category, pageable));
+    }
+
+    // 지점 – 무한스크롤 목록 (cursor 기반, 전체 count 없음)
+    @GetMapping("/api/branch/maintenances/scroll")
+    public ResponseEntity<Resp<MaintenanceResponse.CursorPageDTO>> getBranchScroll(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        return Resp.ok(maintenanceService.getBranchScroll(loginUser, status, category, cursor, size));
     }
 
     /**
@@ -92,16 +112,32 @@ public class MaintenanceController {
 
     // ========================= HQ =========================
     // HQ – 전체 요청 목록 조회 (status/category/branchId + 페이징)
+    // - withTotal=false: total count 없이 Slice(hasNext)만
     @GetMapping("/api/hq/maintenance/requests")
-    public ResponseEntity<Resp<Page<MaintenanceResponse.SimpleDTO>>> getRequestsForHq(
+    public ResponseEntity<?> getRequestsForHq(
             @AuthenticationPrincipal LoginUser currentUser,
             @RequestParam(name = "status", required = false) MaintenanceStatus status,
             @RequestParam(name = "category", required = false) MaintenanceCategory category,
             @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") boolean withTotal,
             @PageableDefault(page = 0, size = 20) @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<Maintenance> result = maintenanceService.getHqList(currentUser, status, category, branchId, pageable);
-        Page<MaintenanceResponse.SimpleDTO> dtoPage = result.map(MaintenanceResponse.SimpleDTO::new);
-        return Resp.ok(dtoPage);
+        if (!withTotal) {
+            return Resp.ok(new MaintenanceResponse.SliceDTO(
+                    maintenanceService.getHqSlice(currentUser, status, category, branchId, pageable)));
+        }
+        return Resp.ok(maintenanceService.getHqList(currentUser, status, category, branchId, pageable));
+    }
+
+    // HQ – 무한스크롤 목록 (cursor 기반, 전체 count 없음)
+    @GetMapping("/api/hq/maintenance/requests/scroll")
+    public ResponseEntity<Resp<MaintenanceResponse.CursorPageDTO>> getRequestsScrollForHq(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        return Resp.ok(maintenanceService.getHqScroll(currentUser, status, category, branchId, cursor, size));
     }
 
     @GetMapping("/api/hq/maintenance/requests/{id}")
@@ -127,8 +163,7 @@ public class MaintenanceController {
         maintenanceService.approveRequest(currentUser, id, dto);
 
         // ✅ 변경 후 최신 상세 조회
-        Maintenance m = maintenanceService.findDetailOrThrow(id);
-        return Resp.ok(maintenanceService.toDetailDTO(m));
+        return Resp.ok(maintenanceService.getDetailDto(id));
     }
 
     // ✅ HQ 2차 승인: APPROVAL_PENDING -> IN_PROGRESS
@@ -144,8 +179,7 @@ public class MaintenanceController {
         maintenanceService.approveEstimate(id, currentUser);
 
         // ✅ 변경 후 최신 상세 조회
-        Maintenance m = maintenanceService.findDetailOrThrow(id);
-        return Resp.ok(maintenanceService.toDetailDTO(m));
+        return Resp.ok(maintenanceService.getDetailDto(id));
     }
 
     // ✅ HQ 1차 반려: REQUESTED -> HQ1_REJECTED
@@ -162,8 +196,7 @@ public class MaintenanceController {
         maintenanceService.rejectRequest(currentUser, id, dto);
 
         // ✅ 변경 후 최신 상세 조회
-        Maintenance m = maintenanceService.findDetailOrThrow(id);
-        return Resp.ok(maintenanceService.toDetailDTO(m));
+        return Resp.ok(maintenanceService.getDetailDto(id));
     }
 
     // ✅ HQ 2차 반려: APPROVAL_PENDING -> HQ2_REJECTED / ESTIMATE_FINAL_REJECTED
@@ -180,8 +213,7 @@ public class MaintenanceController {
         maintenanceService.rejectEstimate(id, currentUser, dto.getReason());
 
         // ✅ 변경 후 최신 상세 조회
-        Maintenance m = maintenanceService.findDetailOrThrow(id);
-        return Resp.ok(maintenanceService.toDetailDTO(m));
+        return Resp.ok(maintenanceService.getDetailDto(id));
     }
     // ========================= VENDOR =========================
 
@@ -194,9 +226,7 @@ public class MaintenanceController {
             return Resp.forbidden("VENDOR 권한이 필요합니다.");
         }
 
-        List<Maintenance> list = maintenanceService.findForVendor(currentUser, status);
-        List<MaintenanceResponse.SimpleDTO> resp = list.stream().map(MaintenanceResponse.SimpleDTO::new).toList();
-        return Resp.ok(resp);
+        return Resp.ok(maintenanceService.findForVendor(currentUser, status));
     }
 
     @GetMapping("/api/vendor/maintenance/requests/{id}")
@@ -209,9 +239,9 @@ public class MaintenanceController {
         }
 
         log.info("[SUBMIT_ESTIMATE] pathId={}", id);
-        Maintenance m = maintenanceService.findDetailOrThrow(id);
-        log.info("[SUBMIT_ESTIMATE] maintenance.id={} status={}", m.getId(), m.getStatus());
-        return Resp.ok(maintenanceService.toDetailDTO(m));
+        MaintenanceResponse.DetailDTO detail = maintenanceService.getDetailDto(id);
+        log.info("[SUBMIT_ESTIMATE] maintenance.id={} status={}", detail.getId(), detail.getStatus());
+        return Resp.ok(detail);
     }
 
     @PostMapping("/api/vendor/maintenance/requests/{id}/submit-estimate")
@@ -280,8 +310,9 @@ public class MaintenanceController {
     // ========================= OPS (HQ + VENDOR) =========================
 
     // 공용 목록: 최신순/필터/월필터/페이징
+    // - withTotal=false: total count 없이 Slice(hasNext)만
     @GetMapping("/api/ops/maintenance/requests")
-    public ResponseEntity<Resp<Page<MaintenanceResponse.SimpleDTO>>> getRequestsForOps(
+    public ResponseEntity<?> getRequestsForOps(
             @AuthenticationPrincipal LoginUser currentUser,
             @RequestParam(name = "status", required = false) MaintenanceStatus status,
             @RequestParam(name = "category", required = false) MaintenanceCategory category,
@@ -289,9 +320,21 @@ public class MaintenanceController {
             @RequestParam(name = "yearMonth", required = false) String yearMonth,
             @RequestParam(name = "completedYearMonth", required = false) String completedYearMonth,
             @RequestParam(name = "sortField", required = false, defaultValue = "createdAt") String sortField,
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") boolean withTotal,
 
             @PageableDefault(page = 0, size = 20) Pageable pageable) {
-        Page<Maintenance> result = maintenanceService.getOpsList(
+        if (!withTotal) {
+            return Resp.ok(new MaintenanceResponse.SliceDTO(maintenanceService.getOpsSlice(
+                    currentUser,
+                    status,
+                    category,
+                    branchId,
+                    yearMonth,
+                    completedYearMonth,
+                    sortField,
+                    pageable)));
+        }
+        return Resp.ok(maintenanceService.getOpsList(
                 currentUser,
                 status,
                 category,
@@ -299,9 +342,32 @@ public class MaintenanceController {
                 yearMonth,
                 completedYearMonth,
                 sortField,
-                pageable);
+                pageable));
+    }
 
-        return Resp.ok(result.map(MaintenanceResponse.SimpleDTO::new));
+    // 공용 목록 – 무한스크롤 (cursor 기반, 전체 count 없음)
+    // - cursor는 이전 응답의 nextCursor 그대로 전달 (sortField/필터는 동일하게 유지)
+    @GetMapping("/api/ops/maintenance/requests/scroll")
+    public ResponseEntity<Resp<MaintenanceResponse.CursorPageDTO>> getRequestsScrollForOps(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "yearMonth", required = false) String yearMonth,
+            @RequestParam(name = "completedYearMonth", required = false) String completedYearMonth,
+            @RequestParam(name = "sortField", required = false, defaultValue = "createdAt") String sortField,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        return Resp.ok(maintenanceService.getOpsScroll(
+                currentUser,
+                status,
+                category,
+                branchId,
+                yearMonth,
+                completedYearMonth,
+                sortField,
+                cursor,
+                size));
     }
 
     // 공용 상세
@@ -314,22 +380,66 @@ public class MaintenanceController {
     }
 
     @GetMapping("/api/ops/maintenance/requests/excel")
-    public ResponseEntity<byte[]> downloadOpsExcel(
+    public void downloadOpsExcel(
             @AuthenticationPrincipal LoginUser currentUser,
             @RequestParam(name = "status", required = false) MaintenanceStatus status,
             @RequestParam(name = "category", required = false) MaintenanceCategory category,
             @RequestParam(name = "branchId", required = false) Long branchId,
-            @RequestParam(name = "yearMonth", required = false) String yearMonth) {
-        byte[] bytes = maintenanceService.exportOpsExcel(currentUser, status, category, branchId, yearMonth);
+            @RequestParam(name = "yearMonth", required = false) String yearMonth,
+            HttpServletResponse response) throws IOException {
+
+        // ✅ 검증 먼저 (실패 시 아직 헤더를 안 썼으므로 JSON 에러 응답 가능)
+        MaintenanceExportFilter filter = maintenanceExportService.resolveOpsFilter(
+                currentUser, status, category, branchId, yearMonth);
 
         String fileName = "juvis_requests.xlsx";
         String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-                .contentType(MediaType.parseMediaType(
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(bytes);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded);
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        // ✅ byte[]로 모으지 않고 응답 스트림에 바로 씀 (yearMonth 지정 시 월별 캐시 파일 재사용)
+        maintenanceExportCache.writeOpsExcel(filter, response.getOutputStream());
+    }
+
+    // ✅ BI 수집용 CSV (같은 필터/컬럼, 스타일 없음): ?format=csv
+    @GetMapping(value = "/api/ops/maintenance/requests/excel", params = "format=csv")
+    public void downloadOpsCsv(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "yearMonth", required = false) String yearMonth,
+            HttpServletResponse response) throws IOException {
+
+        MaintenanceExportFilter filter = maintenanceExportService.resolveOpsFilter(
+                currentUser, status, category, branchId, yearMonth);
+
+        setAttachmentHeaders(response, "juvis_requests.csv", "text/csv; charset=UTF-8");
+        maintenanceExportService.writeOpsCsv(filter, response.getOutputStream());
+    }
+
+    // ✅ BI 수집용 NDJSON (한 줄 = 한 요청): ?format=ndjson
+    @GetMapping(value = "/api/ops/maintenance/requests/excel", params = "format=ndjson")
+    public void downloadOpsNdjson(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "yearMonth", required = false) String yearMonth,
+            HttpServletResponse response) throws IOException {
+
+        MaintenanceExportFilter filter = maintenanceExportService.resolveOpsFilter(
+                currentUser, status, category, branchId, yearMonth);
+
+        setAttachmentHeaders(response, "juvis_requests.ndjson", "application/x-ndjson");
+        maintenanceExportService.writeOpsNdjson(filter, response.getOutputStream());
+    }
+
+    private void setAttachmentHeaders(HttpServletResponse response, String fileName, String contentType) {
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded);
+        response.setContentType(contentType);
     }
 
 }
@@ -0,0 +1,46 @@
+package com.juvis.juvis.maintenance;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+
+/**
+ * 목록 keyset 페이징용 커서 (클라이언트에는 불투명 토큰으로만 전달)
+ * - 요청일 정렬: (createdAt, id)
+ * - 완료일 정렬: (workCompletedAt, createdAt, id)
+ */
+public record MaintenanceCursor(LocalDateTime workCompletedAt, LocalDateTime createdAt, Long id) {
+
+    private static final String NULL_MARK = "-";
+
+    public static MaintenanceCursor of(MaintenanceResponse.SimpleDTO last) {
+        return new MaintenanceCursor(last.getCompletedAt(), last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = (workCompletedAt == null ? NULL_MARK : workCompletedAt.toString())
+                + "|" + createdAt
+                + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static MaintenanceCursor decode(String token) {
+        if (token == null || token.isBlank())
+            return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3)
+                throw new IllegalArgumentException("parts=" + parts.length);
+
+            LocalDateTime completedAt = NULL_MARK.equals(parts[0]) ? null : LocalDateTime.parse(parts[0]);
+            return new MaintenanceCursor(completedAt, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (Exception e) {
+            throw new ExceptionApi400("잘못된 cursor 값입니다.");
+        }
+    }
+}
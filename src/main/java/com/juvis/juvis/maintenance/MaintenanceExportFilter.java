@@ -0,0 +1,28 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+
+// ops export 필터 (yearMonth = 요청 생성월)
+public record MaintenanceExportFilter(
+        MaintenanceStatus status,
+        MaintenanceCategory category,
+        Long branchId,
+        YearMonth yearMonth) {
+
+    public LocalDateTime createdFrom() {
+        return yearMonth == null ? null : yearMonth.atDay(1).atStartOfDay();
+    }
+
+    public LocalDateTime createdTo() {
+        return yearMonth == null ? null : yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    // 목록 검색 조건으로 변환 (완료월 조건 없음)
+    public MaintenanceSearchCond toSearchCond() {
+        return new MaintenanceSearchCond(status, category, branchId, createdFrom(), createdTo(), null, null);
+    }
+}
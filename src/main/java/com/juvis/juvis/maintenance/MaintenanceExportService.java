@@ -0,0 +1,417 @@
+package com.juvis.juvis.maintenance;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+import com.juvis.juvis._core.error.ex.ExceptionApi403;
+import com.juvis.juvis.user.LoginUser;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ops 엑셀 export (스트리밍) + CSV/NDJSON (BI 수집용, 같은 컬럼)
+ * - DB: keyset 청크(CHUNK_SIZE) 단위로 읽고, 청크마다 영속성 컨텍스트 clear
+ * - POI: SXSSF 윈도우(ROW_WINDOW)만 메모리에 두고 나머지는 임시파일로 flush
+ * - 결과는 byte[]로 모으지 않고 OutputStream(응답)으로 바로 씀
+ * - write* 메서드는 트랜잭션 없이 실행(NOT_SUPPORTED): 청크 쿼리마다 커넥션을 잠깐 빌렸다 반납
+ *   → 느린 다운로드/잡/캐시 렌더가 커넥션 하나를 끝까지 붙잡지 않음
+ *   (청크는 branch fetch join + 작업내용 projection이라 세션 밖 지연 로딩 없음)
+ * → 행 수와 무관하게 힙 사용량 일정, 건수 상한 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MaintenanceExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int ROW_WINDOW = 200;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final DateTimeFormatter DF = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DTF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    static final String[] HEADERS = {
+            "문서번호",
+            "지점",
+            "분야",
+            "내용",
+            "상태",
+            "요청일시",
+            "(견적)시작일",
+            "(견적)종료일",
+            "완료일시",
+            "소요기간",
+            "견적가",
+            "최종견적가",
+            "작업내용"
+    };
+
+    // CSV/NDJSON용 필드명 (HEADERS와 같은 순서)
+    static final String[] FIELDS = {
+            "requestNo",
+            "branchName",
+            "category",
+            "title",
+            "status",
+            "submittedAt",
+            "workStartDate",
+            "workEndDate",
+            "workCompletedAt",
+            "duration",
+            "estimateAmount",
+            "finalAmount",
+            "resultComment"
+    };
+
+    private static final int[] WIDTHS = {
+            14, 9, 20, 90, 30,
+            17, 14, 14, 17,
+            17, 14, 14, 40
+    };
+
+    private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceSearchRepository maintenanceSearchRepository;
+    private final EntityManager em;
+
+    // ✅ 권한/파라미터 검증은 응답 헤더를 쓰기 전에 끝낸다 (실패 시 JSON 에러 응답 가능)
+    public MaintenanceExportFilter resolveOpsFilter(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Long branchId,
+            String yearMonth) {
+
+        if (loginUser == null ||
+                !(loginUser.role() == UserRole.HQ || loginUser.role() == UserRole.VENDOR)) {
+            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
+        }
+
+        YearMonth ym = null;
+        if (yearMonth != null && !yearMonth.isBlank()) {
+            ym = YearMonth.parse(yearMonth.trim());
+        }
+
+        return new MaintenanceExportFilter(status, category, branchId, ym);
+    }
+
+    // 반환: 데이터 행 수
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int writeOpsExcel(MaintenanceExportFilter filter, OutputStream out) {
+
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+
+        try (wb) {
+            Sheet sheet = wb.createSheet("requests");
+
+            // ================= 스타일들 =================
+            Font headerFont = wb.createFont();
+            headerFont.setBold(true);
+
+            CellStyle headerStyle = wb.createCellStyle();
+            headerStyle.setFont(headerFont);
+            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            headerStyle.setBorderBottom(BorderStyle.THIN);
+            headerStyle.setAlignment(HorizontalAlignment.CENTER);
+            headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+
+            // ✅ 본문(텍스트) 가운데 정렬
+            CellStyle bodyCenter = wb.createCellStyle();
+            bodyCenter.setAlignment(HorizontalAlignment.CENTER);
+            bodyCenter.setVerticalAlignment(VerticalAlignment.CENTER);
+            bodyCenter.setWrapText(true);
+
+            // ✅ 본문(좌측 정렬) - 내용/작업내용 같은 긴 텍스트용
+            CellStyle bodyLeft = wb.createCellStyle();
+            bodyLeft.setAlignment(HorizontalAlignment.LEFT);
+            bodyLeft.setVerticalAlignment(VerticalAlignment.CENTER);
+            bodyLeft.setWrapText(true);
+
+            // 컬럼별 스타일 (견적가/최종견적가는 기본 스타일)
+            CellStyle[] colStyles = {
+                    bodyCenter, bodyCenter, bodyCenter, bodyLeft, bodyCenter,
+                    bodyCenter, bodyCenter, bodyCenter, bodyCenter,
+                    bodyCenter, null, null, bodyLeft
+            };
+
+            // ================= 헤더 =================
+            Row headerRow = sheet.createRow(0);
+            headerRow.setHeightInPoints(22);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(HEADERS[i]);
+                cell.setCellStyle(headerStyle);
+            }
+
+            for (int i = 0; i < WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, WIDTHS[i] * 256);
+            }
+
+            // ================= 데이터 =================
+            DecimalFormat moneyFmt = new DecimalFormat("#,###");
+            int[] rowIdx = { 1 };
+
+            scanOps(filter, (m, resultComment) -> {
+                Row row = sheet.createRow(rowIdx[0]++);
+                row.setHeightInPoints(20);
+
+                String[] values = opsColumns(m, resultComment, moneyFmt);
+                for (int c = 0; c < values.length; c++) {
+                    Cell cell = row.createCell(c);
+                    if (colStyles[c] != null)
+                        cell.setCellStyle(colStyles[c]);
+                    cell.setCellValue(values[c]);
+                }
+            });
+
+            wb.write(out);
+            out.flush();
+            log.info("[EXPORT] ops excel rows={} filter={}", rowIdx[0] - 1, filter);
+            return rowIdx[0] - 1;
+
+        } catch (IOException e) {
+            throw new ExceptionApi400("엑셀 생성 실패(IO): " + e.getMessage());
+        } finally {
+            wb.dispose(); // ✅ SXSSF 임시파일 삭제
+        }
+    }
+
+    /**
+     * CSV (BI 수집용): 엑셀과 같은 컬럼, 스타일 없이 한 행씩 바로 씀
+     * - 금액은 천단위 구분 없이 숫자 그대로
+     * - 반환: 데이터 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int writeOpsCsv(MaintenanceExportFilter filter, OutputStream out) {
+        DecimalFormat plainFmt = new DecimalFormat("0.##");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        int[] rows = { 0 };
+
+        try {
+            writeCsvLine(writer, HEADERS);
+
+            scanOps(filter, (m, resultComment) -> {
+                try {
+                    writeCsvLine(writer, opsColumns(m, resultComment, plainFmt));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+
+            writer.flush();
+        } catch (IOException | UncheckedIOException e) {
+            throw new ExceptionApi400("CSV 생성 실패(IO): " + e.getMessage());
+        }
+
+        log.info("[EXPORT] ops csv rows={} filter={}", rows[0], filter);
+        return rows[0];
+    }
+
+    /**
+     * NDJSON (한 줄 = 한 요청 JSON 객체): 키는 FIELDS, 빈 값은 null
+     * - 반환: 데이터 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int writeOpsNdjson(MaintenanceExportFilter filter, OutputStream out) {
+        DecimalFormat plainFmt = new DecimalFormat("0.##");
+        int[] rows = { 0 };
+
+        try (JsonGenerator gen = JSON.createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+
+            scanOps(filter, (m, resultComment) -> {
+                String[] values = opsColumns(m, resultComment, plainFmt);
+                try {
+                    gen.writeStartObject();
+                    for (int i = 0; i < FIELDS.length; i++) {
+                        if (values[i].isEmpty())
+                            gen.writeNullField(FIELDS[i]);
+                        else
+                            gen.writeStringField(FIELDS[i], values[i]);
+                    }
+                    gen.writeEndObject();
+                    gen.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+
+            gen.flush();
+        } catch (IOException | UncheckedIOException e) {
+            throw new ExceptionApi400("NDJSON 생성 실패(IO): " + e.getMessage());
+        }
+
+        log.info("[EXPORT] ops ndjson rows={} filter={}", rows[0], filter);
+        return rows[0];
+    }
+
+    // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 따옴표는 두 번
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                writer.write(',');
+
+            String v = values[i];
+            if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(v.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(v);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @FunctionalInterface
+    interface OpsRowWriter {
+        void write(Maintenance m, String resultComment);
+    }
+
+    /**
+     * 필터에 맞는 요청을 createdAt desc 순서로 청크 단위 순회.
+     * 청크마다 작업내용을 한 번에 조회(N+1 방지)한 뒤 영속성 컨텍스트를 비운다.
+     */
+    void scanOps(MaintenanceExportFilter filter, OpsRowWriter rowWriter) {
+        MaintenanceSearchCond cond = filter.toSearchCond();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+
+        while (true) {
+            List<Maintenance> chunk = maintenanceSearchRepository.findOpsExportChunk(
+                    cond, cursorCreatedAt, cursorId, CHUNK_SIZE);
+
+            if (chunk.isEmpty())
+                return;
+
+            List<Long> mids = chunk.stream().map(Maintenance::getId).toList();
+
+            // ✅ result_comment는 지연 로딩 컬럼 → 청크 단위로 따로 조회
+            Map<Long, String> resultComments = maintenanceRepository.findResultComments(mids)
+                    .stream()
+                    .collect(Collectors.toMap(MaintenanceRepository.IdText::id, MaintenanceRepository.IdText::text));
+
+            for (Maintenance m : chunk) {
+                rowWriter.write(m, resultComments.get(m.getId()));
+            }
+
+            Maintenance last = chunk.get(chunk.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+
+            em.clear();
+
+            if (chunk.size() < CHUNK_SIZE)
+                return;
+        }
+    }
+
+    // ✅ 한 행의 컬럼 값 (HEADERS 순서)
+    String[] opsColumns(
+            Maintenance m,
+            String resultComment,
+            DecimalFormat moneyFmt) {
+
+        // 승인 견적가/최종견적가는 요청에 저장된 스냅샷 사용 (attempt 조회 없음)
+        String estimateAmount = m.getEstimateAmount() == null ? "" : moneyFmt.format(m.getEstimateAmount());
+        String finalAmount = m.getFinalAmount() == null ? "" : moneyFmt.format(m.getFinalAmount());
+
+        return new String[] {
+                safe(m.getRequestNo()),
+                m.getBranch() == null ? "" : safe(m.getBranch().getBranchName()),
+                m.getCategory() == null ? "" : m.getCategory().getDisplayName(),
+                safe(titleOnly(m)),
+                m.getStatus() == null ? "" : m.getStatus().kr(),
+                m.getSubmittedAt() == null ? "" : m.getSubmittedAt().format(DTF),
+                m.getWorkStartDate() == null ? "" : m.getWorkStartDate().toLocalDate().format(DF),
+                m.getWorkEndDate() == null ? "" : m.getWorkEndDate().toLocalDate().format(DF),
+                m.getWorkCompletedAt() == null ? "" : m.getWorkCompletedAt().format(DTF),
+                durationText(m.getSubmittedAt(), m.getWorkCompletedAt()),
+                estimateAmount,
+                finalAmount,
+                safe(resultComment)
+        };
+    }
+
+    // ✅ 소요기간(완료 - 요청) : 일/시간/분
+    private String durationText(LocalDateTime submittedAt, LocalDateTime completedAt) {
+        if (submittedAt == null || completedAt == null || completedAt.isBefore(submittedAt))
+            return "";
+
+        long totalMinutes = ChronoUnit.MINUTES.between(submittedAt, completedAt);
+
+        long days = totalMinutes / (60 * 24);
+        long hours = (totalMinutes % (60 * 24)) / 60;
+        long minutes = totalMinutes % 60;
+
+        StringBuilder sb = new StringBuilder();
+        if (days > 0)
+            sb.append(days).append("일 ");
+        if (hours > 0)
+            sb.append(hours).append("시간 ");
+        sb.append(minutes).append("분");
+        return sb.toString().trim();
+    }
+
+    private String titleOnly(Maintenance m) {
+        String t = (m.getTitle() == null) ? "" : m.getTitle().trim();
+        if (t.isEmpty())
+            return "";
+
+        if (m.getCategory() == null)
+            return t;
+
+        String cat = m.getCategory().getDisplayName(); // 예: "도장"
+        if (cat == null || cat.isBlank())
+            return t;
+
+        cat = cat.trim();
+
+        String p1 = cat + " - ";
+        String p2 = cat + "-";
+
+        if (t.startsWith(p1))
+            return t.substring(p1.length()).trim();
+        if (t.startsWith(p2))
+            return t.substring(p2.length()).trim();
+
+        return t;
+    }
+
+    private String safe(String s) {
+        return s == null ? "" : s;
+    }
+}
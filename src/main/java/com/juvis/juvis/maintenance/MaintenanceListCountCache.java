@@ -0,0 +1,51 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 목록 total count 캐시 (필터 조합별)
+ * - 큰 지점/전체 목록에서 count(m)이 페이지 조회보다 비싸서, 같은 필터의 페이지 이동마다 다시 세지 않도록 짧게 보관
+ * - 요청 생성/상태 변경 시 invalidate() (트랜잭션 안이면 커밋 후 전체 무효화)
+ * - 그 외 변경(카테고리 수정 등)은 TTL로 보정
+ */
+@Component
+public class MaintenanceListCountCache {
+
+    private final Cache<Object, Long> counts;
+
+    public MaintenanceListCountCache(
+            @Value("${maintenance.list.count-cache.ttl:30s}") Duration ttl,
+            @Value("${maintenance.list.count-cache.max-size:10000}") long maxSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // key: 필터 조합 record (equals/hashCode 기준)
+    public long get(Object key, LongSupplier counter) {
+        return counts.get(key, k -> counter.getAsLong());
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counts.invalidateAll();
+                }
+            });
+            return;
+        }
+        counts.invalidateAll();
+    }
+}
@@ -1,12 +1,13 @@
 package com.juvis.juvis.maintenance;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,10 +15,26 @@ import org.springframework.data.repository.query.Param;
 
 import com.juvis.juvis._core.enums.MaintenanceCategory;
 import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis.maintenance_admin.MaintenanceAdminResponse;
+import com.juvis.juvis.maintenance_vendor.MaintenanceVendorResponse;
 import com.juvis.juvis.user.User;
 
 public interface MaintenanceRepository extends JpaRepository<Maintenance, Long> {
 
+  // ✅ 목록에서는 description(LONGTEXT) 앞부분만 (상세는 DetailDTO에서 전체)
+  // - JPQL 문자열의 substring(m.description, 1, 200)과 같은 값으로 유지
+  int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+  // ✅ 목록(SimpleDTO) projection: 목록에 필요한 컬럼만 DTO로 바로 조회
+  // - 엔티티를 영속성 컨텍스트에 올리지 않음 (스냅샷/dirty checking 없음)
+  // - 사용하는 쿼리는 from 절에서 branch → b, requester → r 로 join 해야 함
+  String SIMPLE_DTO_SELECT = """
+      select new com.juvis.juvis.maintenance.MaintenanceResponse$SimpleDTO(
+          m.id, m.requestNo, b.branchName, r.name, m.estimateAmount, m.workStartDate,
+          m.title, substring(m.description, 1, 200), m.status, m.category,
+          m.createdAt, m.submittedAt, m.workCompletedAt)
+      """;
+
   @EntityGraph(attributePaths = {
       "branch",
       "requester",
@@ -29,50 +46,60 @@ public interface MaintenanceRepository extends JpaRepository<Maintenance, Long>
   })
   Optional<Maintenance> findDetailById(Long id);
 
-  // HQ 검색 (Page) - 엔티티 조회
-  @Query(value = """
-      select distinct m
+  // HQ 검색 (Slice) - SimpleDTO projection, count는 countForHq로 따로 (MaintenanceListCountCache)
+  @Query(SIMPLE_DTO_SELECT + """
       from Maintenance m
-      join fetch m.branch b
-      join fetch m.requester r
+      join m.branch b
+      join m.requester r
       where (:status is null or m.status = :status)
         and (:category is null or m.category = :category)
         and (:branchId is null or b.id = :branchId)
-      """, countQuery = """
+      """)
+  Slice<MaintenanceResponse.SimpleDTO> searchForHq(
+      @Param("status") MaintenanceStatus status,
+      @Param("category") MaintenanceCategory category,
+      @Param("branchId") Long branchId,
+      Pageable pageable);
+
+  @Query("""
       select count(m)
       from Maintenance m
       where (:status is null or m.status = :status)
         and (:category is null or m.category = :category)
         and (:branchId is null or m.branch.id = :branchId)
       """)
-  Page<Maintenance> searchForHq(
+  long countForHq(
       @Param("status") MaintenanceStatus status,
       @Param("category") MaintenanceCategory category,
-      @Param("branchId") Long branchId,
-      Pageable pageable);
+      @Param("branchId") Long branchId);
 
-  // Branch 검색 (Page) - 엔티티 조회
-  @Query(value = """
-      select m
+  // Branch 검색 (Slice) - SimpleDTO projection, count는 countForBranch로 따로
+  @Query(SIMPLE_DTO_SELECT + """
       from Maintenance m
-      join fetch m.branch b
-      join fetch m.requester r
+      join m.branch b
+      join m.requester r
       where b.id = :branchId
         and (:status is null or m.status = :status)
         and (:category is null or m.category = :category)
-      """, countQuery = """
-        select count(m)
-        from Maintenance m
-        where m.branch.id = :branchId
-          and (:status is null or m.status = :status)
-          and (:category is null or m.category = :category)
       """)
-  Page<Maintenance> searchForBranch(
+  Slice<MaintenanceResponse.SimpleDTO> searchForBranch(
       @Param("branchId") Long branchId,
       @Param("status") MaintenanceStatus status,
       @Param("category") MaintenanceCategory category,
       Pageable pageable);
 
+  @Query("""
+      select count(m)
+      from Maintenance m
+      where m.branch.id = :branchId
+        and (:status is null or m.status = :status)
+        and (:category is null or m.category = :category)
+      """)
+  long countForBranch(
+      @Param("branchId") Long branchId,
+      @Param("status") MaintenanceStatus status,
+      @Param("category") MaintenanceCategory category);
+
   @Query("""
       select m
       from Maintenance m
@@ -82,67 +109,161 @@ public interface MaintenanceRepository extends JpaRepository<Maintenance, Long>
       """)
   Optional<Maintenance> findDetailForHq(@Param("id") Long id);
 
-  // Vendor 목록 (List)
-  List<Maintenance> findByVendor(User vendor);
-
-  List<Maintenance> findByVendorAndStatus(User vendor, MaintenanceStatus status);
+  // Vendor 목록 (List) - SimpleDTO projection, status null이면 전체
+  @Query(SIMPLE_DTO_SELECT + """
+      from Maintenance m
+      join m.branch b
+      join m.requester r
+      where m.vendor.id = :vendorId
+        and (:status is null or m.status = :status)
+      order by m.createdAt desc, m.id desc
+      """)
+  List<MaintenanceResponse.SimpleDTO> findSimpleForVendor(
+      @Param("vendorId") Integer vendorId,
+      @Param("status") MaintenanceStatus status);
 
   // 필요하면 requester 기반도 유지
   List<Maintenance> findByRequester(User requester);
 
   // ✅ HQ 목록: 상태 필터(없으면 전체)
-  List<Maintenance> findAllByOrderByCreatedAtDesc();
-
-  List<Maintenance> findByStatusOrderByCreatedAtDesc(MaintenanceStatus status);
+  // - 목록 컬럼만 DTO로 바로 조회 (엔티티/연관 로딩 없음), Slice라 count 쿼리 없음
+  @Query("""
+      select new com.juvis.juvis.maintenance_admin.MaintenanceAdminResponse$ListItemDTO(
+          m.id, m.title, m.status, b.branchName, r.name, m.createdAt)
+      from Maintenance m
+      left join m.branch b
+      left join m.requester r
+      where (:status is null or m.status = :status)
+      order by m.createdAt desc, m.id desc
+      """)
+  Slice<MaintenanceAdminResponse.ListItemDTO> findAdminListItems(
+      @Param("status") MaintenanceStatus status,
+      Pageable pageable);
 
   // ✅ HQ 요약: 상태별 count
   long countByStatus(MaintenanceStatus status);
 
   long countByVendor_IdAndStatus(Long vendorId, MaintenanceStatus status);
 
-  List<Maintenance> findByVendor_IdAndStatusOrderByCreatedAtDesc(
-      Long vendorId,
-      MaintenanceStatus status);
-
-  List<Maintenance> findByVendor_IdAndStatusInOrderByCreatedAtDesc(
-      Long vendorId,
-      Collection<MaintenanceStatus> statuses);
+  // ✅ Vendor 목록: 배정된 요청 중 statuses에 해당하는 것만 (DTO 직접 조회, count 없음)
+  @Query("""
+      select new com.juvis.juvis.maintenance_vendor.MaintenanceVendorResponse$ListItemDTO(
+          m.id, m.title, substring(m.description, 1, 200), m.status,
+          b.branchName, r.name, m.createdAt)
+      from Maintenance m
+      left join m.branch b
+      left join m.requester r
+      where m.vendor.id = :vendorId
+        and m.status in :statuses
+      order by m.createdAt desc, m.id desc
+      """)
+  Slice<MaintenanceVendorResponse.ListItemDTO> findVendorListItems(
+      @Param("vendorId") Integer vendorId,
+      @Param("statuses") Collection<MaintenanceStatus> statuses,
+      Pageable pageable);
 
   // ✅ summary count
   long countByVendorIdAndStatusIn(Integer vendorId, Collection<MaintenanceStatus> statuses);
 
   Optional<Maintenance> findByIdAndVendor_Id(Long id, Integer vendorId);
 
-  @EntityGraph(attributePaths = { "branch", "requester" })
-  @Query(value = """
-      select m
+  // =========================================================
+  // Keyset(cursor) 목록: count 없이 limit(size+1)로 hasNext 판단
+  // - cursorId가 null이면 첫 페이지
+  // =========================================================
+
+  // HQ 스크롤 (createdAt desc, id desc)
+  @Query(SIMPLE_DTO_SELECT + """
       from Maintenance m
+      join m.branch b
+      join m.requester r
       where (:status is null or m.status = :status)
         and (:category is null or m.category = :category)
-        and (:branchId is null or m.branch.id = :branchId)
-        and (:createdFrom is null or m.createdAt >= :createdFrom)
-        and (:createdTo is null or m.createdAt < :createdTo)
-        and (:completedFrom is null or m.workCompletedAt >= :completedFrom)
-        and (:completedTo is null or m.workCompletedAt < :completedTo)
-      """, countQuery = """
-      select count(m)
+        and (:branchId is null or b.id = :branchId)
+        and (:cursorId is null
+             or m.createdAt < :cursorCreatedAt
+             or (m.createdAt = :cursorCreatedAt and m.id < :cursorId))
+      order by m.createdAt desc, m.id desc
+      """)
+  List<MaintenanceResponse.SimpleDTO> scrollForHq(
+      @Param("status") MaintenanceStatus status,
+      @Param("category") MaintenanceCategory category,
+      @Param("branchId") Long branchId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable limit);
+
+  // Branch 스크롤 (createdAt desc, id desc)
+  @Query(SIMPLE_DTO_SELECT + """
       from Maintenance m
-      where (:status is null or m.status = :status)
+      join m.branch b
+      join m.requester r
+      where b.id = :branchId
+        and (:status is null or m.status = :status)
         and (:category is null or m.category = :category)
-        and (:branchId is null or m.branch.id = :branchId)
-        and (:createdFrom is null or m.createdAt >= :createdFrom)
-        and (:createdTo is null or m.createdAt < :createdTo)
-        and (:completedFrom is null or m.workCompletedAt >= :completedFrom)
-        and (:completedTo is null or m.workCompletedAt < :completedTo)
+        and (:cursorId is null
+             or m.createdAt < :cursorCreatedAt
+             or (m.createdAt = :cursorCreatedAt and m.id < :cursorId))
+      order by m.createdAt desc, m.id desc
       """)
-  Page<Maintenance> searchForOps(
+  List<MaintenanceResponse.SimpleDTO> scrollForBranch(
+      @Param("branchId") Long branchId,
       @Param("status") MaintenanceStatus status,
       @Param("category") MaintenanceCategory category,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable limit);
+
+  // Ops 스크롤/export 청크는 MaintenanceSearchRepository (넘어온 조건만 where에 포함)
+
+  // ✅ 엑셀 export용 작업내용(result_comment) 일괄 조회
+  // - result_comment는 지연 로딩 컬럼이라 청크 엔티티에서 꺼내면 행마다 select가 나감
+  @Query("""
+      select new com.juvis.juvis.maintenance.MaintenanceRepository$IdText(m.id, m.resultComment)
+      from Maintenance m
+      where m.id in :ids
+        and m.resultComment is not null
+      """)
+  List<IdText> findResultComments(@Param("ids") Collection<Long> ids);
+
+  record IdText(Long id, String text) {
+  }
+
+  // ✅ 견적 비용 집계 (지점 × 분야 × 승인월): 요청에 저장된 승인 견적 스냅샷 기준, DB에서 SUM/AVG
+  @Query("""
+      select new com.juvis.juvis.maintenance.MaintenanceRepository$CostRow(
+          b.id, b.branchName, m.category,
+          extract(year from m.estimateApprovedAt), extract(month from m.estimateApprovedAt),
+          count(m), sum(m.estimateAmount), avg(m.estimateAmount),
+          count(m.finalAmount), sum(m.finalAmount))
+      from Maintenance m
+      join m.branch b
+      where m.approvedAttemptId is not null
+        and m.estimateApprovedAt >= :from
+        and m.estimateApprovedAt < :to
+        and (:branchId is null or b.id = :branchId)
+        and (:category is null or m.category = :category)
+      group by b.id, b.branchName, m.category,
+          extract(year from m.estimateApprovedAt), extract(month from m.estimateApprovedAt)
+      order by extract(year from m.estimateApprovedAt), extract(month from m.estimateApprovedAt), b.branchName, m.category
+      """)
+  List<CostRow> aggregateApprovedCost(
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
       @Param("branchId") Long branchId,
-      @Param("createdFrom") LocalDateTime createdFrom,
-      @Param("createdTo") LocalDateTime createdTo,
-      @Param("completedFrom") LocalDateTime completedFrom,
-      @Param("completedTo") LocalDateTime completedTo,
-      Pageable pageable);
+      @Param("category") MaintenanceCategory category);
+
+  record CostRow(
+      Long branchId,
+      String branchName,
+      MaintenanceCategory category,
+      Integer year,
+      Integer month,
+      Long approvedCount,
+      BigDecimal estimateSum,
+      Double estimateAvg,
+      Long finalCount,
+      BigDecimal finalSum) {
+  }
 
 }
@@ -5,11 +5,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.springframework.data.domain.Slice;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.juvis.juvis._core.enums.MaintenanceCategory;
 import com.juvis.juvis._core.enums.MaintenanceStatus;
 import com.juvis.juvis.maintenance_estimate.MaintenanceEstimateAttempt;
 
@@ -38,32 +41,71 @@ public class MaintenanceResponse {
         private LocalDateTime submittedAt;
         private LocalDateTime completedAt;
 
-        public SimpleDTO(Maintenance m) {
-            this.id = m.getId();
-            this.requestNo = m.getRequestNo();
-            this.branchName = m.getBranch() != null ? m.getBranch().getBranchName() : null;
-            this.requesterName = m.getRequester() != null ? m.getRequester().getName() : null;
-            this.estimateAmount = m.getEstimateAmount();
-            this.workStartDate = m.getWorkStartDate();
-            this.title = m.getTitle();
-            this.description = m.getDescription();
-            this.status = m.getStatus();
+        // ✅ JPQL projection용 (MaintenanceRepository.SIMPLE_DTO_SELECT 컬럼 순서와 동일)
+        // - 엔티티로 만들지 않음: description이 지연 로딩이라 행마다 추가 select 발생
+        // - description은 앞 DESCRIPTION_PREVIEW_LENGTH자 미리보기
+        public SimpleDTO(
+                Long id,
+                String requestNo,
+                String branchName,
+                String requesterName,
+                BigDecimal estimateAmount,
+                LocalDateTime workStartDate,
+                String title,
+                String description,
+                MaintenanceStatus status,
+                MaintenanceCategory category,
+                LocalDateTime createdAt,
+                LocalDateTime submittedAt,
+                LocalDateTime completedAt) {
+            this.id = id;
+            this.requestNo = requestNo;
+            this.branchName = branchName;
+            this.requesterName = requesterName;
+            this.estimateAmount = estimateAmount;
+            this.workStartDate = workStartDate;
+            this.title = title;
+            this.description = description;
+            this.status = status;
 
             // ✅ 핵심: category 내려주기 (null-safe)
-            if (m.getCategory() != null) {
-                this.category = m.getCategory().name(); // "PAINTING"
-                this.categoryName = m.getCategory().getDisplayName(); // "도장"
+            if (category != null) {
+                this.category = category.name(); // "PAINTING"
+                this.categoryName = category.getDisplayName(); // "도장"
             } else {
                 this.category = null;
                 this.categoryName = null;
             }
 
-            this.createdAt = m.getCreatedAt();
-            this.submittedAt = m.getSubmittedAt();
-            this.completedAt = m.getWorkCompletedAt();
+            this.createdAt = createdAt;
+            this.submittedAt = submittedAt;
+            this.completedAt = completedAt;
         }
     }
 
+    // ✅ Slice 목록 응답 (withTotal=false) - total count 없음
+    @Getter
+    @AllArgsConstructor
+    public static class SliceDTO {
+        private List<SimpleDTO> items;
+        private int page;
+        private int size;
+        private boolean hasNext;
+
+        public SliceDTO(Slice<SimpleDTO> slice) {
+            this(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+        }
+    }
+
+    // ✅ keyset(cursor) 목록 응답 - total count 없음
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPageDTO {
+        private List<SimpleDTO> items;
+        private String nextCursor; // 마지막 페이지면 null
+        private boolean hasNext;
+    }
+
     @Getter
     @AllArgsConstructor
     public static class DetailDTO {
@@ -178,15 +220,7 @@ public class MaintenanceResponse {
             }
 
             if (latest != null) {
-                String amt = latest.getEstimateAmount();
-                if (amt != null)
-                    amt = amt.trim();
-
-                if (amt == null || amt.isEmpty()) {
-                    this.estimateAmount = null;
-                } else {
-                    this.estimateAmount = new java.math.BigDecimal(amt.replace(",", ""));
-                }
+                this.estimateAmount = latest.getEstimateAmount();
 
                 this.estimateComment = latest.getEstimateComment();
                 this.workStartDate = latest.getWorkStartDate();
@@ -310,7 +344,7 @@ public class MaintenanceResponse {
     public static class EstimateAttemptDTO {
 
         private int attemptNo;
-        private String estimateAmount;
+        private BigDecimal estimateAmount;
         private BigDecimal finalAmount;
         private String estimateComment;
         private LocalDateTime workStartDate;
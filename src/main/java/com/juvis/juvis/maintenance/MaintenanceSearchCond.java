@@ -0,0 +1,17 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.LocalDateTime;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+
+// ops 목록 검색 조건 (null 필드는 조건에서 제외, 기간은 [from, to))
+public record MaintenanceSearchCond(
+        MaintenanceStatus status,
+        MaintenanceCategory category,
+        Long branchId,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime completedFrom,
+        LocalDateTime completedTo) {
+}
@@ -0,0 +1,197 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ops 목록 동적 검색 (Criteria)
+ * - 넘어온 조건만 where에 넣는다. (:p is null or ...) 패턴은 MySQL이 인덱스를 고르지 못해 풀스캔으로 감
+ * - 조합별 인덱스: (status, created_at) / (branch_id, created_at) / (work_completed_at, created_at) / (created_at)
+ * - offset 목록, keyset 스크롤, export 청크 모두 같은 조건 빌더 사용 (keyset 조건은 커서가 있을 때만 추가)
+ */
+@RequiredArgsConstructor
+@Repository
+public class MaintenanceSearchRepository {
+
+    private final EntityManager em;
+
+    // 목록 (Slice): size+1건을 읽어 hasNext 판단, count는 countForOps로 따로
+    public Slice<MaintenanceResponse.SimpleDTO> searchForOps(MaintenanceSearchCond cond, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        // ================= 목록 =================
+        CriteriaQuery<MaintenanceResponse.SimpleDTO> cq = cb.createQuery(MaintenanceResponse.SimpleDTO.class);
+        Root<Maintenance> m = cq.from(Maintenance.class);
+        Join<Maintenance, Branch> b = m.join("branch");
+        Join<Maintenance, User> r = m.join("requester");
+
+        cq.select(simpleDto(cb, m, b, r));
+        cq.where(predicates(cb, m, cond));
+        cq.orderBy(QueryUtils.toOrders(pageable.getSort(), m, cb));
+
+        TypedQuery<MaintenanceResponse.SimpleDTO> query = em.createQuery(cq);
+        if (pageable.isUnpaged())
+            return new SliceImpl<>(query.getResultList());
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<MaintenanceResponse.SimpleDTO> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    public long countForOps(MaintenanceSearchCond cond) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        // branch/requester는 NOT NULL FK라 inner join 없이도 건수 동일
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Maintenance> m = cq.from(Maintenance.class);
+        cq.select(cb.count(m));
+        cq.where(predicates(cb, m, cond));
+
+        return em.createQuery(cq).getSingleResult();
+    }
+
+    // 스크롤 - 요청일 정렬 (createdAt desc, id desc), limit건
+    public List<MaintenanceResponse.SimpleDTO> scrollForOps(MaintenanceSearchCond cond, MaintenanceCursor cursor, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<MaintenanceResponse.SimpleDTO> cq = cb.createQuery(MaintenanceResponse.SimpleDTO.class);
+        Root<Maintenance> m = cq.from(Maintenance.class);
+        Join<Maintenance, Branch> b = m.join("branch");
+        Join<Maintenance, User> r = m.join("requester");
+
+        List<Predicate> where = conditions(cb, m, cond);
+        if (cursor != null)
+            where.add(afterCreated(cb, m, cursor.createdAt(), cursor.id()));
+
+        cq.select(simpleDto(cb, m, b, r));
+        cq.where(where.toArray(Predicate[]::new));
+        cq.orderBy(cb.desc(m.get("createdAt")), cb.desc(m.get("id")));
+
+        return em.createQuery(cq).setMaxResults(limit).getResultList();
+    }
+
+    // 스크롤 - 완료일 정렬 (workCompletedAt desc, createdAt desc, id desc), limit건
+    // - MySQL은 desc 정렬 시 NULL이 마지막 → 미완료 건은 완료 건 뒤에 createdAt 순으로 이어짐
+    public List<MaintenanceResponse.SimpleDTO> scrollForOpsByCompleted(MaintenanceSearchCond cond, MaintenanceCursor cursor, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<MaintenanceResponse.SimpleDTO> cq = cb.createQuery(MaintenanceResponse.SimpleDTO.class);
+        Root<Maintenance> m = cq.from(Maintenance.class);
+        Join<Maintenance, Branch> b = m.join("branch");
+        Join<Maintenance, User> r = m.join("requester");
+
+        List<Predicate> where = conditions(cb, m, cond);
+        if (cursor != null) {
+            Expression<LocalDateTime> completedAt = m.get("workCompletedAt");
+            Predicate sameCompletedAfter = afterCreated(cb, m, cursor.createdAt(), cursor.id());
+
+            if (cursor.workCompletedAt() == null) {
+                // 미완료 구간: 완료일 null 인 건만 (createdAt, id) 기준으로 이어서
+                where.add(cb.and(cb.isNull(completedAt), sameCompletedAfter));
+            } else {
+                where.add(cb.or(
+                        cb.isNull(completedAt),
+                        cb.lessThan(completedAt, cursor.workCompletedAt()),
+                        cb.and(cb.equal(completedAt, cursor.workCompletedAt()), sameCompletedAfter)));
+            }
+        }
+
+        cq.select(simpleDto(cb, m, b, r));
+        cq.where(where.toArray(Predicate[]::new));
+        cq.orderBy(cb.desc(m.get("workCompletedAt")), cb.desc(m.get("createdAt")), cb.desc(m.get("id")));
+
+        return em.createQuery(cq).setMaxResults(limit).getResultList();
+    }
+
+    // ✅ export 청크 (createdAt desc, id desc), branch fetch join, 커서가 없으면 첫 청크
+    public List<Maintenance> findOpsExportChunk(
+            MaintenanceSearchCond cond,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<Maintenance> cq = cb.createQuery(Maintenance.class);
+        Root<Maintenance> m = cq.from(Maintenance.class);
+        m.fetch("branch");
+
+        List<Predicate> where = conditions(cb, m, cond);
+        if (cursorId != null)
+            where.add(afterCreated(cb, m, cursorCreatedAt, cursorId));
+
+        cq.select(m);
+        cq.where(where.toArray(Predicate[]::new));
+        cq.orderBy(cb.desc(m.get("createdAt")), cb.desc(m.get("id")));
+
+        return em.createQuery(cq).setMaxResults(limit).getResultList();
+    }
+
+    // ✅ MaintenanceRepository.SIMPLE_DTO_SELECT 와 같은 컬럼 순서
+    private CompoundSelection<MaintenanceResponse.SimpleDTO> simpleDto(
+            CriteriaBuilder cb, Root<Maintenance> m, Join<Maintenance, Branch> b, Join<Maintenance, User> r) {
+        return cb.construct(MaintenanceResponse.SimpleDTO.class,
+                m.get("id"), m.get("requestNo"), b.get("branchName"), r.get("name"),
+                m.get("estimateAmount"), m.get("workStartDate"),
+                m.get("title"),
+                cb.substring(m.<String>get("description"), 1, MaintenanceRepository.DESCRIPTION_PREVIEW_LENGTH),
+                m.get("status"), m.get("category"),
+                m.get("createdAt"), m.get("submittedAt"), m.get("workCompletedAt"));
+    }
+
+    // keyset: (createdAt, id) < (cursorCreatedAt, cursorId)
+    private Predicate afterCreated(CriteriaBuilder cb, Root<Maintenance> m, LocalDateTime cursorCreatedAt, Long cursorId) {
+        Expression<LocalDateTime> createdAt = m.get("createdAt");
+        return cb.or(
+                cb.lessThan(createdAt, cursorCreatedAt),
+                cb.and(cb.equal(createdAt, cursorCreatedAt), cb.lessThan(m.<Long>get("id"), cursorId)));
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Maintenance> m, MaintenanceSearchCond cond) {
+        return conditions(cb, m, cond).toArray(Predicate[]::new);
+    }
+
+    private List<Predicate> conditions(CriteriaBuilder cb, Root<Maintenance> m, MaintenanceSearchCond cond) {
+        List<Predicate> where = new ArrayList<>();
+
+        if (cond.status() != null)
+            where.add(cb.equal(m.get("status"), cond.status()));
+        if (cond.category() != null)
+            where.add(cb.equal(m.get("category"), cond.category()));
+        if (cond.branchId() != null)
+            where.add(cb.equal(m.get("branch").get("id"), cond.branchId())); // FK 컬럼 (join 없음)
+        if (cond.createdFrom() != null)
+            where.add(cb.greaterThanOrEqualTo(m.get("createdAt"), cond.createdFrom()));
+        if (cond.createdTo() != null)
+            where.add(cb.lessThan(m.get("createdAt"), cond.createdTo()));
+        if (cond.completedFrom() != null)
+            where.add(cb.greaterThanOrEqualTo(m.get("workCompletedAt"), cond.completedFrom()));
+        if (cond.completedTo() != null)
+            where.add(cb.lessThan(m.get("workCompletedAt"), cond.completedTo()));
+
+        return where;
+    }
+}
@@ -1,19 +1,15 @@
 package com.juvis.juvis.maintenance;
 
-import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.time.LocalDate;
-import java.text.DecimalFormat;
+import java.util.function.LongSupplier;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,8 +22,11 @@ import com.juvis.juvis._core.error.ex.ExceptionApi403;
 import com.juvis.juvis._core.error.ex.ExceptionApi404;
 import com.juvis.juvis.branch.Branch;
 import com.juvis.juvis.branch.BranchRepository;
+import com.juvis.juvis.maintenance_counter.MaintenanceCounterService;
 import com.juvis.juvis.maintenance_estimate.MaintenanceEstimateAttempt;
 import com.juvis.juvis.maintenance_estimate.MaintenanceEstimateAttemptRepository;
+import com.juvis.juvis.maintenance_export.MaintenanceExportCache;
+import com.juvis.juvis.maintenance_rollup.MaintenanceRollupService;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.MaintenancePhoto;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.MaintenancePhotoRepository;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.PresignService;
@@ -48,14 +47,19 @@ import lombok.extern.slf4j.Slf4j;
 public class MaintenanceService {
 
     private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceSearchRepository maintenanceSearchRepository;
+    private final MaintenanceListCountCache maintenanceListCountCache;
     private final UserRepository userRepository;
     private final MaintenancePhotoRepository maintenancePhotoRepository;
     private final PresignService presignService;
     private final NotificationService notificationService;
+    private final MaintenanceCounterService maintenanceCounterService;
+    private final MaintenanceRollupService maintenanceRollupService;
+    private final MaintenanceExportCache maintenanceExportCache;
     private final MaintenanceEstimateAttemptRepository attemptRepository;
     private final VendorWorkerRepository vendorWorkerRepository;
     private final BranchRepository branchRepository;
-    private final DailySequenceRepository dailySequenceRepository;
+    private final RequestNoAllocator requestNoAllocator;
 
     // ---------- 공통 로더 ----------
     private User loadUser(LoginUser loginUser) {
@@ -68,19 +72,8 @@ public class MaintenanceService {
                 .orElseThrow(() -> new ExceptionApi400("요청을 찾을 수 없습니다. id=" + id));
     }
 
-    private static final DateTimeFormatter REQ_NO_FMT = DateTimeFormatter.ofPattern("yyMMdd");
-
     private String generateRequestNo() {
-        LocalDate today = LocalDate.now();
-
-        dailySequenceRepository.upsertAndIncrement(today);
-        int seq = dailySequenceRepository.lastSequence(); // 1,2,3...
-
-        if (seq > 999) {
-            throw new ExceptionApi400("일일 최대 요청 수(999건)를 초과했습니다.");
-        }
-
-        return today.format(REQ_NO_FMT) + "-" + String.format("%03d", seq);
+        return requestNoAllocator.next();
     }
 
     // ========================= BRANCH =========================
@@ -127,6 +120,10 @@ public class MaintenanceService {
         mr.setRequestNo(generateRequestNo());
 
         Maintenance saved = maintenanceRepository.save(mr);
+        maintenanceCounterService.onCreated(saved);
+        maintenanceRollupService.onCreated(saved);
+        maintenanceExportCache.onChanged(saved);
+        maintenanceListCountCache.invalidate();
 
         // ✅ 요청 첨부 사진은 maintenance_photo에 REQUEST로 저장
         List<MaintenanceRequest.PhotoDTO> photos = dto.getPhotos();
@@ -167,18 +164,38 @@ public class MaintenanceService {
             throw new ExceptionApi400("제출할 수 없는 상태입니다.");
         }
 
+        // ✅ 제출 시각을 먼저 기록 (월별 집계가 firstSubmittedAt 기준으로 누적)
+        mr.markSubmitted(LocalDateTime.now());
         changeStatusWithNotify(mr, MaintenanceStatus.REQUESTED);
-        mr.setSubmittedAt(LocalDateTime.now());
 
         mr.getBranch().getBranchName();
     }
 
-    public Page<Maintenance> getBranchList(
+    // 지점 목록 (Page) - total은 필터 조합별 count 캐시에서
+    public Page<MaintenanceResponse.SimpleDTO> getBranchList(
             LoginUser loginUser,
             MaintenanceStatus status,
             MaintenanceCategory category,
             Pageable pageable) {
 
+        Long branchId = requireBranchId(loginUser);
+        Slice<MaintenanceResponse.SimpleDTO> slice = maintenanceRepository.searchForBranch(branchId, status, category, pageable);
+
+        return toPage(slice, new BranchCountKey(branchId, status, category),
+                () -> maintenanceRepository.countForBranch(branchId, status, category));
+    }
+
+    // 지점 목록 (Slice) - count 없이 hasNext만
+    public Slice<MaintenanceResponse.SimpleDTO> getBranchSlice(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Pageable pageable) {
+
+        return maintenanceRepository.searchForBranch(requireBranchId(loginUser), status, category, pageable);
+    }
+
+    private Long requireBranchId(LoginUser loginUser) {
         if (loginUser == null || loginUser.role() != UserRole.BRANCH) {
             throw new ExceptionApi403("지점 계정만 조회할 수 있습니다.");
         }
@@ -189,8 +206,36 @@ public class MaintenanceService {
         if (branch == null) {
             throw new ExceptionApi400("지점 정보가 없습니다.");
         }
+        return branch.getId();
+    }
 
-        return maintenanceRepository.searchForBranch(branch.getId(), status, category, pageable);
+    // 지점 목록 - keyset(cursor) 버전 (count 없음)
+    public MaintenanceResponse.CursorPageDTO getBranchScroll(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            String cursor,
+            int size) {
+
+        if (loginUser == null || loginUser.role() != UserRole.BRANCH) {
+            throw new ExceptionApi403("지점 계정만 조회할 수 있습니다.");
+        }
+
+        Branch branch = loadUser(loginUser).getBranch();
+        if (branch == null) {
+            throw new ExceptionApi400("지점 정보가 없습니다.");
+        }
+
+        MaintenanceCursor c = MaintenanceCursor.decode(cursor);
+        int limit = scrollSize(size);
+
+        List<MaintenanceResponse.SimpleDTO> rows = maintenanceRepository.scrollForBranch(
+                branch.getId(), status, category,
+                c == null ? null : c.createdAt(),
+                c == null ? null : c.id(),
+                PageRequest.of(0, limit + 1));
+
+        return toCursorPage(rows, limit);
     }
 
     @Transactional(readOnly = true)
@@ -217,11 +262,10 @@ public class MaintenanceService {
 
     public MaintenanceResponse.DetailDTO toBranchDetailDTO(Maintenance m) {
 
-        List<String> requestPhotoUrls = buildRequestPhotoUrls(m);
-        List<String> resultPhotoUrls = buildResultPhotoUrls(m);
+        DetailPhotos photos = loadDetailPhotos(m.getId());
 
         // ✅ 최신 attempt 1건만 DTO로 만들기 (worker 채우기 목적)
-        MaintenanceResponse.EstimateAttemptDTO latestAttempt = findLatestAttemptDto(m.getId());
+        MaintenanceResponse.EstimateAttemptDTO latestAttempt = findLatestAttemptDto(m.getId(), photos);
 
         List<MaintenanceResponse.EstimateAttemptDTO> attemptsForWorker = (latestAttempt == null) ? List.of()
                 : List.of(latestAttempt);
@@ -229,13 +273,13 @@ public class MaintenanceService {
         // ✅ forBranch 내부에서 estimateAttempts를 비워서 반환하도록 처리됨
         return MaintenanceResponse.DetailDTO.forBranch(
                 m,
-                requestPhotoUrls,
-                resultPhotoUrls,
+                photos.requestUrls(),
+                photos.resultUrls(),
                 attemptsForWorker);
     }
 
     // ========================= 사진 분리 빌더 =========================
-    private MaintenanceResponse.EstimateAttemptDTO findLatestAttemptDto(Long maintenanceId) {
+    private MaintenanceResponse.EstimateAttemptDTO findLatestAttemptDto(Long maintenanceId, DetailPhotos photos) {
 
         MaintenanceEstimateAttempt latest = attemptRepository
                 .findTopByMaintenance_IdOrderByAttemptNoDesc(maintenanceId)
@@ -245,97 +289,102 @@ public class MaintenanceService {
             return null;
 
         // 최신 attemptNo의 사진만 DTO에 넣어줌
-        Map<Integer, List<String>> photoUrlsByAttempt = buildEstimatePhotoUrlsByAttempt(latest.getMaintenance());
-        List<String> urls = photoUrlsByAttempt.getOrDefault(latest.getAttemptNo(), List.of());
+        List<String> urls = photos.estimateUrlsByAttempt().getOrDefault(latest.getAttemptNo(), List.of());
 
         return MaintenanceResponse.EstimateAttemptDTO.from(latest, urls);
     }
 
-    private List<String> buildRequestPhotoUrls(Maintenance m) {
-        return maintenancePhotoRepository
-                .findByMaintenanceIdAndPhotoTypeOrderByIdAsc(
-                        m.getId(),
-                        MaintenancePhoto.PhotoType.REQUEST)
-                .stream()
-                .map(MaintenancePhoto::getFileKey)
-                .filter(Objects::nonNull)
-                .filter(s -> !s.isBlank())
-                .map(k -> presignService.presignedGetUrl(k)) // ✅ 여기 핵심
-                .toList();
+    // ✅ 상세 화면용 사진 묶음 (REQUEST / RESULT / ESTIMATE(attemptNo별))
+    private record DetailPhotos(
+            List<String> requestUrls,
+            List<String> resultUrls,
+            Map<Integer, List<String>> estimateUrlsByAttempt,
+            Map<Integer, List<MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO>> estimatePhotosByAttempt) {
     }
 
-    private List<String> buildResultPhotoUrls(Maintenance m) {
-        return maintenancePhotoRepository
-                .findByMaintenanceIdAndPhotoTypeOrderByIdAsc(
-                        m.getId(),
-                        MaintenancePhoto.PhotoType.RESULT)
-                .stream()
-                .map(MaintenancePhoto::getFileKey)
-                .filter(Objects::nonNull)
-                .filter(s -> !s.isBlank())
-                .map(k -> presignService.presignedGetUrl(k)) // ✅ 여기 핵심
-                .toList();
-    }
+    /**
+     * 요청 1건의 사진을 한 번에 조회(id asc)해서 타입별로 분리.
+     * 같은 fileKey는 한 번만 presign 한다.
+     */
+    private DetailPhotos loadDetailPhotos(Long maintenanceId) {
 
-    // ✅ 견적 사진(ESTIMATE) attemptNo별 URL 그룹핑 (view URL)
-    private Map<Integer, List<String>> buildEstimatePhotoUrlsByAttempt(Maintenance m) {
-        return maintenancePhotoRepository
-                .findByMaintenanceIdAndPhotoTypeOrderByIdAsc(m.getId(), MaintenancePhoto.PhotoType.ESTIMATE)
-                .stream()
-                .filter(p -> p.getAttemptNo() != null)
-                .collect(Collectors.groupingBy(
-                        MaintenancePhoto::getAttemptNo,
-                        Collectors.mapping(
-                                p -> presignService.presignedGetUrl(p.getFileKey()),
-                                Collectors.toList())));
-    }
+        List<MaintenancePhoto> all = maintenancePhotoRepository.findByMaintenanceIdOrderByIdAsc(maintenanceId);
 
-    // ✅ 견적 사진(ESTIMATE) attemptNo별 DTO 그룹핑 (fileKey + viewUrl)
-    private Map<Integer, List<MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO>> buildEstimatePhotosByAttempt(
-            Maintenance m) {
+        Map<String, String> signed = new HashMap<>();
 
-        return maintenancePhotoRepository
-                .findByMaintenanceIdAndPhotoTypeOrderByIdAsc(m.getId(), MaintenancePhoto.PhotoType.ESTIMATE)
-                .stream()
-                .filter(p -> p.getAttemptNo() != null)
-                .collect(Collectors.groupingBy(
-                        MaintenancePhoto::getAttemptNo,
-                        Collectors.mapping(
-                                p -> new MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO(
-                                        p.getFileKey(),
-                                        presignService.presignedGetUrl(p.getFileKey())),
-                                Collectors.toList())));
+        List<String> requestUrls = new ArrayList<>();
+        List<String> resultUrls = new ArrayList<>();
+        Map<Integer, List<String>> estimateUrls = new HashMap<>();
+        Map<Integer, List<MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO>> estimatePhotos = new HashMap<>();
+
+        for (MaintenancePhoto p : all) {
+            if (p.getPhotoType() == null)
+                continue;
+
+            String key = p.getFileKey();
+
+            switch (p.getPhotoType()) {
+                case REQUEST -> {
+                    if (key != null && !key.isBlank())
+                        requestUrls.add(signed.computeIfAbsent(key, presignService::presignedGetUrl));
+                }
+                case RESULT -> {
+                    if (key != null && !key.isBlank())
+                        resultUrls.add(signed.computeIfAbsent(key, presignService::presignedGetUrl));
+                }
+                case ESTIMATE -> {
+                    if (p.getAttemptNo() == null)
+                        break;
+                    String url = signed.computeIfAbsent(key, presignService::presignedGetUrl);
+                    estimateUrls.computeIfAbsent(p.getAttemptNo(), k -> new ArrayList<>()).add(url);
+                    estimatePhotos.computeIfAbsent(p.getAttemptNo(), k -> new ArrayList<>())
+                            .add(new MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO(key, url));
+                }
+            }
+        }
+
+        return new DetailPhotos(requestUrls, resultUrls, estimateUrls, estimatePhotos);
     }
 
     // ✅ HQ/VENDOR 상세 DTO
     public MaintenanceResponse.DetailDTO toDetailDTO(Maintenance m) {
 
-        List<String> requestPhotoUrls = buildRequestPhotoUrls(m);
-        List<String> resultPhotoUrls = buildResultPhotoUrls(m);
-
-        Map<Integer, List<String>> estimatePhotoUrlsByAttempt = buildEstimatePhotoUrlsByAttempt(m);
-        Map<Integer, List<MaintenanceResponse.EstimateAttemptDTO.EstimatePhotoDTO>> estimatePhotosByAttempt = buildEstimatePhotosByAttempt(
-                m);
+        DetailPhotos photos = loadDetailPhotos(m.getId());
 
         List<MaintenanceResponse.EstimateAttemptDTO> attempts = attemptRepository
                 .findByMaintenance_IdOrderByAttemptNoAsc(m.getId())
                 .stream()
                 .map(a -> MaintenanceResponse.EstimateAttemptDTO.from(
                         a,
-                        estimatePhotoUrlsByAttempt.getOrDefault(a.getAttemptNo(), List.of()),
-                        estimatePhotosByAttempt.getOrDefault(a.getAttemptNo(), List.of())))
+                        photos.estimateUrlsByAttempt().getOrDefault(a.getAttemptNo(), List.of()),
+                        photos.estimatePhotosByAttempt().getOrDefault(a.getAttemptNo(), List.of())))
                 .toList();
 
         return new MaintenanceResponse.DetailDTO(
                 m,
-                requestPhotoUrls,
-                resultPhotoUrls,
+                photos.requestUrls(),
+                photos.resultUrls(),
                 attempts);
     }
 
     // ========================= HQ =========================
 
-    public Page<Maintenance> getHqList(
+    // HQ 목록 (Page) - total은 필터 조합별 count 캐시에서
+    public Page<MaintenanceResponse.SimpleDTO> getHqList(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Long branchId,
+            Pageable pageable) {
+
+        Slice<MaintenanceResponse.SimpleDTO> slice = getHqSlice(loginUser, status, category, branchId, pageable);
+
+        return toPage(slice, new HqCountKey(status, category, branchId),
+                () -> maintenanceRepository.countForHq(status, category, branchId));
+    }
+
+    // HQ 목록 (Slice) - count 없이 hasNext만
+    public Slice<MaintenanceResponse.SimpleDTO> getHqSlice(
             LoginUser loginUser,
             MaintenanceStatus status,
             MaintenanceCategory category,
@@ -349,6 +398,31 @@ public class MaintenanceService {
         return maintenanceRepository.searchForHq(status, category, branchId, pageable);
     }
 
+    // HQ 목록 - keyset(cursor) 버전 (count 없음)
+    public MaintenanceResponse.CursorPageDTO getHqScroll(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Long branchId,
+            String cursor,
+            int size) {
+
+        if (loginUser == null || loginUser.role() != UserRole.HQ) {
+            throw new ExceptionApi403("HQ 권한이 필요합니다.");
+        }
+
+        MaintenanceCursor c = MaintenanceCursor.decode(cursor);
+        int limit = scrollSize(size);
+
+        List<MaintenanceResponse.SimpleDTO> rows = maintenanceRepository.scrollForHq(
+                status, category, branchId,
+                c == null ? null : c.createdAt(),
+                c == null ? null : c.id(),
+                PageRequest.of(0, limit + 1));
+
+        return toCursorPage(rows, limit);
+    }
+
     @Transactional(readOnly = true)
     public Maintenance getDetailForHq(LoginUser user, Long id) {
         return maintenanceRepository.findDetailForHq(id)
@@ -383,7 +457,7 @@ public class MaintenanceService {
         // ✅ 고정 Vendor 자동 배정 (id=43)
         User vendor = userRepository.findById(43)
                 .orElseThrow(() -> new ExceptionApi404("고정 업체(VENDOR=43) 없음"));
-        m.setVendor(vendor);
+        assignVendor(m, vendor);
 
         User hqUser = loadUser(currentUser);
 
@@ -429,7 +503,9 @@ public class MaintenanceService {
         m.setEstimateApprovedBy(hqUser);
         m.setEstimateApprovedAt(LocalDateTime.now());
 
-        // ✅ 작업예정일 확정 저장
+        // ✅ 승인 견적 스냅샷 (금액 + 작업예정일 확정 저장)
+        m.setApprovedAttemptId(current.getId());
+        m.setEstimateAmount(current.getEstimateAmount());
         m.setWorkStartDate(current.getWorkStartDate());
         m.setWorkEndDate(current.getWorkEndDate());
 
@@ -497,23 +573,23 @@ public class MaintenanceService {
         }
     }
 
+    // ✅ 조회 + DTO 변환을 한 트랜잭션에서 (description 등 LAZY 컬럼은 세션 안에서만 로딩 가능)
     @Transactional(readOnly = true)
-    public Maintenance findDetailOrThrow(Long id) {
-        return maintenanceRepository.findDetailById(id)
+    public MaintenanceResponse.DetailDTO getDetailDto(Long id) {
+        Maintenance m = maintenanceRepository.findDetailById(id)
                 .orElseThrow(() -> new ExceptionApi404("요청 없음"));
+        return toDetailDTO(m);
     }
 
     // ========================= VENDOR =========================
 
-    public List<Maintenance> findForVendor(LoginUser loginUser, String status) {
+    public List<MaintenanceResponse.SimpleDTO> findForVendor(LoginUser loginUser, String status) {
         if (loginUser == null || loginUser.role() != UserRole.VENDOR) {
             throw new ExceptionApi403("VENDOR 권한이 필요합니다.");
         }
 
-        User vendor = loadUser(loginUser);
-
         if (status == null || status.isBlank()) {
-            return maintenanceRepository.findByVendor(vendor);
+            return maintenanceRepository.findSimpleForVendor(loginUser.id(), null);
         }
 
         MaintenanceStatus s;
@@ -531,7 +607,7 @@ public class MaintenanceService {
             throw new ExceptionApi403("해당 상태는 Vendor 조회 대상이 아닙니다.");
         }
 
-        return maintenanceRepository.findByVendorAndStatus(vendor, s);
+        return maintenanceRepository.findSimpleForVendor(loginUser.id(), s);
     }
 
     @Transactional
@@ -581,9 +657,7 @@ public class MaintenanceService {
                 });
 
         // 7) 필수값 검증(금액)
-        if (dto.getEstimateAmount() == null) {
-            throw new ExceptionApi400("estimateAmount는 필수입니다.");
-        }
+        BigDecimal estimateAmount = requireEstimateAmount(dto.getEstimateAmount());
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -606,7 +680,7 @@ public class MaintenanceService {
         MaintenanceEstimateAttempt attempt = MaintenanceEstimateAttempt.create(
                 m,
                 nextAttemptNo,
-                dto.getEstimateAmount().toString(),
+                estimateAmount,
                 dto.getEstimateComment(),
                 dto.getWorkStartDate(),
                 dto.getWorkEndDate(),
@@ -686,9 +760,7 @@ public class MaintenanceService {
             throw new ExceptionApi400("HQ 결정 이후에는 수정할 수 없습니다. decision=" + latest.getHqDecision());
         }
 
-        if (dto.getEstimateAmount() == null) {
-            throw new ExceptionApi400("estimateAmount는 필수입니다.");
-        }
+        BigDecimal estimateAmount = requireEstimateAmount(dto.getEstimateAmount());
 
         // ✅ 작업자 검증 + 스냅샷 갱신
         VendorWorker worker = null;
@@ -704,7 +776,7 @@ public class MaintenanceService {
         latest.setWorkerSnapshot(worker);
 
         latest.updateEstimate(
-                dto.getEstimateAmount().toString().trim(),
+                estimateAmount,
                 dto.getEstimateComment(),
                 dto.getWorkStartDate(),
                 dto.getWorkEndDate(),
@@ -712,6 +784,7 @@ public class MaintenanceService {
                 LocalDateTime.now());
 
         attemptRepository.save(latest);
+        maintenanceExportCache.onChanged(m);
 
         // ✅ 사진 갱신(해당 attemptNo만)
         // ✅ 사진 갱신(해당 attemptNo만)
@@ -781,6 +854,8 @@ public class MaintenanceService {
             throw new ExceptionApi400("estimateAmount는 필수입니다.");
         }
 
+        BigDecimal estimateAmount = parseEstimateAmount(dto.getEstimateAmount());
+
         VendorWorker worker = null;
         if (dto.getWorkerId() != null) {
             worker = vendorWorkerRepository
@@ -791,12 +866,13 @@ public class MaintenanceService {
         LocalDateTime now = LocalDateTime.now();
 
         current.updateEstimate(
-                dto.getEstimateAmount().trim(),
+                estimateAmount,
                 dto.getEstimateComment(),
                 dto.getWorkStartDate(),
                 dto.getWorkEndDate(),
                 worker,
                 now);
+        maintenanceExportCache.onChanged(m);
 
         boolean photoChanged = Boolean.TRUE.equals(dto.getPhotoChanged());
         if (photoChanged) {
@@ -872,20 +948,24 @@ public class MaintenanceService {
 
         m.setWorkCompletedAt(completedAt);
         changeStatusWithNotify(m, MaintenanceStatus.COMPLETED);
-        // ✅ 최종 견적가(finalAmount) 저장
+        // ✅ 최종 견적가(finalAmount) 저장: 승인 attempt + 요청 스냅샷
         if (dto.getFinalAmount() != null) {
+            if (m.getApprovedAttemptId() == null) {
+                throw new ExceptionApi400("승인된 견적이 없어 최종 견적을 저장할 수 없습니다.");
+            }
 
-            MaintenanceEstimateAttempt latestApprovedAttempt = attemptRepository
-                    .findTopByMaintenance_IdAndHqDecisionOrderByAttemptNoDesc(
-                            m.getId(),
-                            MaintenanceEstimateAttempt.HqDecision.APPROVED)
+            MaintenanceEstimateAttempt approvedAttempt = attemptRepository.findById(m.getApprovedAttemptId())
                     .orElseThrow(() -> new ExceptionApi400("승인된 견적이 없어 최종 견적을 저장할 수 없습니다."));
 
-            latestApprovedAttempt.setFinalAmount(dto.getFinalAmount());
+            approvedAttempt.setFinalAmount(dto.getFinalAmount());
+            attemptRepository.save(approvedAttempt);
 
-            attemptRepository.save(latestApprovedAttempt);
+            m.setFinalAmount(dto.getFinalAmount());
         }
 
+        // ✅ 월별 집계 (완료월 기준 건수/소요시간/금액)
+        maintenanceRollupService.onCompleted(m);
+
         // ✅ RESULT 사진 저장
         // ✅ RESULT 사진 저장 (fileKey만)
         if (dto.getResultPhotos() != null && !dto.getResultPhotos().isEmpty()) {
@@ -911,9 +991,43 @@ public class MaintenanceService {
         if (before == next)
             return;
         m.setStatus(next);
+        maintenanceCounterService.onTransition(m, before, next);
+        maintenanceRollupService.onTransition(m, before, next);
+        maintenanceExportCache.onChanged(m); // ✅ 월별 export 캐시 버전 +1
+        maintenanceListCountCache.invalidate(); // ✅ 목록 total count 캐시 무효화 (커밋 후)
         notificationService.notifyOnStatusChange(m, before, next);
     }
 
+    // ✅ 견적가 검증: 필수, 0 이상, 소수점 2자리까지 (DECIMAL(15,2))
+    private BigDecimal requireEstimateAmount(BigDecimal amount) {
+        if (amount == null) {
+            throw new ExceptionApi400("estimateAmount는 필수입니다.");
+        }
+        if (amount.signum() < 0) {
+            throw new ExceptionApi400("견적가는 0 이상이어야 합니다.");
+        }
+        if (amount.scale() > 2 || amount.precision() - amount.scale() > 13) {
+            throw new ExceptionApi400("견적가 형식이 올바르지 않습니다. estimateAmount=" + amount.toPlainString());
+        }
+        return amount;
+    }
+
+    // 문자열 견적가("1,200,000" / "1200000원") → 숫자
+    private BigDecimal parseEstimateAmount(String amount) {
+        String cleaned = amount.replaceAll("[,\\s원]", "");
+        try {
+            return requireEstimateAmount(new BigDecimal(cleaned));
+        } catch (NumberFormatException e) {
+            throw new ExceptionApi400("견적가 형식이 올바르지 않습니다. estimateAmount=" + amount);
+        }
+    }
+
+    // ✅ 업체 배정은 여기로만 (업체별 카운터 이동)
+    private void assignVendor(Maintenance m, User vendor) {
+        maintenanceCounterService.onVendorChanged(m, m.getVendor(), vendor);
+        m.setVendor(vendor);
+    }
+
     @Transactional
     public Maintenance createByHq(LoginUser loginUser, MaintenanceRequest.HqCreateDTO dto) {
 
@@ -946,6 +1060,10 @@ public class MaintenanceService {
                 });
         m.setRequestNo(generateRequestNo());
         Maintenance saved = maintenanceRepository.save(m);
+        maintenanceCounterService.onCreated(saved);
+        maintenanceRollupService.onCreated(saved);
+        maintenanceExportCache.onChanged(saved);
+        maintenanceListCountCache.invalidate();
 
         // ✅ 요청 사진 저장 (REQUEST)
         // ✅ 요청 사진 저장 (REQUEST) - fileKey만
@@ -982,9 +1100,9 @@ public class MaintenanceService {
 
         User vendor = userRepository.findById(43)
                 .orElseThrow(() -> new ExceptionApi404("고정 업체(VENDOR=43) 없음"));
-        m.setVendor(vendor);
+        assignVendor(m, vendor);
 
-        m.setSubmittedAt(LocalDateTime.now());
+        m.markSubmitted(LocalDateTime.now());
 
         changeStatusWithNotify(m, MaintenanceStatus.ESTIMATING);
 
@@ -994,7 +1112,8 @@ public class MaintenanceService {
         m.setRequestRejectedReason(null);
     }
 
-    public Page<Maintenance> getOpsList(
+    // 공용 목록 (Page) - total은 필터 조합별 count 캐시에서
+    public Page<MaintenanceResponse.SimpleDTO> getOpsList(
             LoginUser loginUser,
             MaintenanceStatus status,
             MaintenanceCategory category,
@@ -1003,31 +1122,49 @@ public class MaintenanceService {
             String completedYearMonth, // ✅ 추가
             String sortField, // ✅ 추가
             Pageable pageable) {
-        if (loginUser == null ||
-                !(loginUser.role() == UserRole.HQ || loginUser.role() == UserRole.VENDOR)) {
-            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
-        }
 
-        LocalDateTime createdFrom = null;
-        LocalDateTime createdTo = null;
+        MaintenanceSearchCond cond = opsCond(loginUser, status, category, branchId, yearMonth, completedYearMonth);
+        Slice<MaintenanceResponse.SimpleDTO> slice = maintenanceSearchRepository.searchForOps(cond, opsPageable(sortField, pageable));
 
-        if (yearMonth != null && !yearMonth.isBlank()) {
-            YearMonth ym = YearMonth.parse(yearMonth.trim());
-            createdFrom = ym.atDay(1).atStartOfDay();
-            createdTo = ym.plusMonths(1).atDay(1).atStartOfDay();
-        }
+        return toPage(slice, cond, () -> maintenanceSearchRepository.countForOps(cond));
+    }
 
-        // ✅ 완료월 범위
-        LocalDateTime completedFrom = null;
-        LocalDateTime completedTo = null;
+    // 공용 목록 (Slice) - count 없이 hasNext만
+    public Slice<MaintenanceResponse.SimpleDTO> getOpsSlice(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Long branchId,
+            String yearMonth,
+            String completedYearMonth,
+            String sortField,
+            Pageable pageable) {
+
+        MaintenanceSearchCond cond = opsCond(loginUser, status, category, branchId, yearMonth, completedYearMonth);
+        return maintenanceSearchRepository.searchForOps(cond, opsPageable(sortField, pageable));
+    }
 
-        if (completedYearMonth != null && !completedYearMonth.isBlank()) {
-            YearMonth ym = YearMonth.parse(completedYearMonth.trim());
-            completedFrom = ym.atDay(1).atStartOfDay();
-            completedTo = ym.plusMonths(1).atDay(1).atStartOfDay();
+    private MaintenanceSearchCond opsCond(
+            LoginUser loginUser,
+            MaintenanceStatus status,
+            MaintenanceCategory category,
+            Long branchId,
+            String yearMonth,
+            String completedYearMonth) {
+        if (loginUser == null ||
+                !(loginUser.role() == UserRole.HQ || loginUser.role() == UserRole.VENDOR)) {
+            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
         }
 
-        // ✅ 정렬 강제: createdAt | workCompletedAt
+        // ✅ 넘어온 조건만 where에 포함 (인덱스 선택 가능하도록), 완료월 범위 포함
+        return new MaintenanceSearchCond(
+                status, category, branchId,
+                monthStart(yearMonth), monthEnd(yearMonth),
+                monthStart(completedYearMonth), monthEnd(completedYearMonth));
+    }
+
+    // ✅ 정렬 강제: createdAt | workCompletedAt
+    private Pageable opsPageable(String sortField, Pageable pageable) {
         Sort sort;
         if ("completedAt".equalsIgnoreCase(sortField) || "workCompletedAt".equalsIgnoreCase(sortField)) {
             sort = Sort.by(Sort.Direction.DESC, "workCompletedAt").and(Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -1035,265 +1172,108 @@ public class MaintenanceService {
             sort = Sort.by(Sort.Direction.DESC, "createdAt");
         }
 
-        Pageable fixed = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-
-        return maintenanceRepository.searchForOps(
-                status, category, branchId,
-                createdFrom, createdTo,
-                completedFrom, completedTo,
-                fixed);
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
-    @Transactional(readOnly = true)
-    public MaintenanceResponse.DetailDTO getDetailDtoForOps(LoginUser currentUser, Long id) {
-
-        if (currentUser == null ||
-                !(currentUser.role() == UserRole.HQ || currentUser.role() == UserRole.VENDOR)) {
-            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
-        }
-
-        Maintenance m = maintenanceRepository.findDetailById(id)
-                .orElseThrow(() -> new ExceptionApi404("해당 요청이 없습니다."));
-
-        return toDetailDTO(m);
+    // count 캐시 key (필터 조합)
+    private record HqCountKey(MaintenanceStatus status, MaintenanceCategory category, Long branchId) {
     }
 
-    private String titleOnly(Maintenance m) {
-        String t = (m.getTitle() == null) ? "" : m.getTitle().trim();
-        if (t.isEmpty())
-            return "";
-
-        if (m.getCategory() == null)
-            return t;
-
-        String cat = m.getCategory().getDisplayName(); // 예: "도장"
-        if (cat == null || cat.isBlank())
-            return t;
-
-        cat = cat.trim();
+    private record BranchCountKey(Long branchId, MaintenanceStatus status, MaintenanceCategory category) {
+    }
 
-        String p1 = cat + " - ";
-        String p2 = cat + "-";
+    /**
+     * Slice → Page
+     * - 마지막 페이지(hasNext=false)면 offset + 건수로 total 확정 (count 없음)
+     * - 그 외에는 필터 조합별 count 캐시 사용 (짧은 TTL, 생성/상태 변경 시 무효화)
+     */
+    private Page<MaintenanceResponse.SimpleDTO> toPage(
+            Slice<MaintenanceResponse.SimpleDTO> slice,
+            Object countKey,
+            LongSupplier counter) {
 
-        if (t.startsWith(p1))
-            return t.substring(p1.length()).trim();
-        if (t.startsWith(p2))
-            return t.substring(p2.length()).trim();
+        Pageable pageable = slice.getPageable();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.isUnpaged() || pageable.getOffset() == 0)) {
+            long total = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements();
+            return new PageImpl<>(slice.getContent(), pageable, total);
+        }
 
-        return t;
+        return new PageImpl<>(slice.getContent(), pageable, maintenanceListCountCache.get(countKey, counter));
     }
 
-    @Transactional(readOnly = true)
-    public byte[] exportOpsExcel(
+    // 공용 목록 - keyset(cursor) 버전 (count 없음)
+    public MaintenanceResponse.CursorPageDTO getOpsScroll(
             LoginUser loginUser,
             MaintenanceStatus status,
             MaintenanceCategory category,
             Long branchId,
-            String yearMonth) {
-
-        if (loginUser == null ||
-                !(loginUser.role() == UserRole.HQ || loginUser.role() == UserRole.VENDOR)) {
-            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
-        }
-
-        LocalDateTime from = null;
-        LocalDateTime to = null;
-        if (yearMonth != null && !yearMonth.isBlank()) {
-            YearMonth ym = YearMonth.parse(yearMonth.trim());
-            from = ym.atDay(1).atStartOfDay();
-            to = ym.plusMonths(1).atDay(1).atStartOfDay();
-        }
+            String yearMonth,
+            String completedYearMonth,
+            String sortField,
+            String cursor,
+            int size) {
+        // ✅ 목록과 같은 조건 빌더 (넘어온 조건만 where에 포함, keyset은 커서가 있을 때만)
+        MaintenanceSearchCond cond = opsCond(loginUser, status, category, branchId, yearMonth, completedYearMonth);
 
-        var pageable = PageRequest.of(0, 20000, Sort.by(Sort.Direction.DESC, "createdAt"));
-        var page = maintenanceRepository.searchForOps(
-                status,
-                category,
-                branchId,
-                from,
-                to,
-                null, // completedFrom
-                null, // completedTo
-                pageable);
+        MaintenanceCursor c = MaintenanceCursor.decode(cursor);
+        int limit = scrollSize(size);
 
-        var rows = page.getContent();
+        boolean byCompleted = "completedAt".equalsIgnoreCase(sortField)
+                || "workCompletedAt".equalsIgnoreCase(sortField);
 
-        // ✅ (중요) APPROVED attempt를 한 번에 가져와서 Map으로 만든다 (N+1 방지)
-        List<Long> mids = rows.stream()
-                .map(Maintenance::getId)
-                .toList();
-
-        Map<Long, MaintenanceEstimateAttempt> approvedMap = attemptRepository.findLatestApprovedAttempts(mids).stream()
-                .collect(Collectors.toMap(
-                        a -> a.getMaintenance().getId(),
-                        a -> a));
-
-        // ✅ exportOpsExcel() 안에서 try (Workbook wb = new XSSFWorkbook()) { ... } 내부에 그대로
-        // 붙여서 사용
-
-        try (Workbook wb = new XSSFWorkbook()) {
-            Sheet sheet = wb.createSheet("requests");
-
-            // ================= 스타일들 =================
-            Font headerFont = wb.createFont();
-            headerFont.setBold(true);
-
-            CellStyle headerStyle = wb.createCellStyle();
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            headerStyle.setBorderBottom(BorderStyle.THIN);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER); // ✅ 헤더 가로 가운데
-            headerStyle.setVerticalAlignment(VerticalAlignment.CENTER); // ✅ 헤더 세로 가운데
-
-            // ✅ 본문(텍스트) 가운데 정렬
-            CellStyle bodyCenter = wb.createCellStyle();
-            bodyCenter.setAlignment(HorizontalAlignment.CENTER); // ✅ 가로 가운데
-            bodyCenter.setVerticalAlignment(VerticalAlignment.CENTER); // ✅ 세로 가운데
-            bodyCenter.setWrapText(true); // ✅ 줄바꿈(길면)
-
-            // ✅ 본문(좌측 정렬) - 내용/작업내용 같은 긴 텍스트용
-            CellStyle bodyLeft = wb.createCellStyle();
-            bodyLeft.setAlignment(HorizontalAlignment.LEFT);
-            bodyLeft.setVerticalAlignment(VerticalAlignment.CENTER);
-            bodyLeft.setWrapText(true);
-
-            // ================= 헤더 =================
-            String[] headers = {
-                    "문서번호",
-                    "지점",
-                    "분야",
-                    "내용",
-                    "상태",
-                    "요청일시",
-                    "(견적)시작일",
-                    "(견적)종료일",
-                    "완료일시",
-                    "소요기간",
-                    "견적가",
-                    "최종견적가",
-                    "작업내용"
-            };
-
-            Row headerRow = sheet.createRow(0);
-            headerRow.setHeightInPoints(22); // ✅ 헤더 높이(세로 가운데 체감)
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+        List<MaintenanceResponse.SimpleDTO> rows = byCompleted
+                ? maintenanceSearchRepository.scrollForOpsByCompleted(cond, c, limit + 1)
+                : maintenanceSearchRepository.scrollForOps(cond, c, limit + 1);
 
-            DateTimeFormatter df = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-            DecimalFormat moneyFmt = new DecimalFormat("#,###");
-
-            // ✅ 셀 생성 헬퍼(정렬 적용)
-            java.util.function.BiFunction<Row, Integer, Cell> ccell = (r, idx) -> {
-                Cell cell = r.createCell(idx);
-                cell.setCellStyle(bodyCenter);
-                return cell;
-            };
-            java.util.function.BiFunction<Row, Integer, Cell> lcell = (r, idx) -> {
-                Cell cell = r.createCell(idx);
-                cell.setCellStyle(bodyLeft);
-                return cell;
-            };
-
-            // ================= 데이터 =================
-            int rowIdx = 1;
-
-            for (Maintenance m : rows) {
-                Row row = sheet.createRow(rowIdx++);
-                row.setHeightInPoints(20); // ✅ 본문 높이(세로 가운데 체감)
-
-                int c = 0;
-
-                ccell.apply(row, c++).setCellValue(safe(m.getRequestNo()));
-                ccell.apply(row, c++).setCellValue(m.getBranch() == null ? "" : safe(m.getBranch().getBranchName()));
-                ccell.apply(row, c++).setCellValue(m.getCategory() == null ? "" : m.getCategory().getDisplayName());
-
-                // ✅ 내용/작업내용은 좌측정렬로 보기 좋게(원하면 bodyCenter로 바꿔도 됨)
-                lcell.apply(row, c++).setCellValue(safe(titleOnly(m)));
-
-                ccell.apply(row, c++).setCellValue(m.getStatus() == null ? "" : m.getStatus().kr());
-                ccell.apply(row, c++).setCellValue(m.getSubmittedAt() == null ? "" : m.getSubmittedAt().format(dtf));
-                ccell.apply(row, c++).setCellValue(
-                        m.getWorkStartDate() == null ? "" : m.getWorkStartDate().toLocalDate().format(df));
-                ccell.apply(row, c++)
-                        .setCellValue(m.getWorkEndDate() == null ? "" : m.getWorkEndDate().toLocalDate().format(df));
-                ccell.apply(row, c++)
-                        .setCellValue(m.getWorkCompletedAt() == null ? "" : m.getWorkCompletedAt().format(dtf));
-
-                // ✅ 소요기간(완료 - 요청) : 일/시간/분
-                LocalDateTime submittedAt = m.getSubmittedAt();
-                LocalDateTime completedAt = m.getWorkCompletedAt();
-
-                String durationText = "";
-                if (submittedAt != null && completedAt != null && !completedAt.isBefore(submittedAt)) {
-                    long totalMinutes = ChronoUnit.MINUTES.between(submittedAt, completedAt);
-
-                    long days = totalMinutes / (60 * 24);
-                    long hours = (totalMinutes % (60 * 24)) / 60;
-                    long minutes = totalMinutes % 60;
-
-                    StringBuilder sb = new StringBuilder();
-                    if (days > 0)
-                        sb.append(days).append("일 ");
-                    if (hours > 0)
-                        sb.append(hours).append("시간 ");
-                    sb.append(minutes).append("분");
-                    durationText = sb.toString().trim();
-                }
-                ccell.apply(row, c++).setCellValue(durationText);
+        return toCursorPage(rows, limit);
+    }
 
-                MaintenanceEstimateAttempt approvedAttempt = approvedMap.get(m.getId());
+    private static final int SCROLL_DEFAULT_SIZE = 20;
+    private static final int SCROLL_MAX_SIZE = 100;
 
-                String estimateAmount = "";
-                String finalAmount = "";
+    private int scrollSize(int size) {
+        if (size <= 0)
+            return SCROLL_DEFAULT_SIZE;
+        return Math.min(size, SCROLL_MAX_SIZE);
+    }
 
-                if (approvedAttempt != null) {
+    // size+1건을 읽어 hasNext 판단, 마지막 항목으로 다음 커서 생성
+    private MaintenanceResponse.CursorPageDTO toCursorPage(List<MaintenanceResponse.SimpleDTO> rows, int size) {
+        boolean hasNext = rows.size() > size;
 
-                    if (approvedAttempt.getEstimateAmount() != null && !approvedAttempt.getEstimateAmount().isBlank()) {
-                        try {
-                            estimateAmount = moneyFmt.format(
-                                    Long.parseLong(approvedAttempt.getEstimateAmount().replaceAll("[^0-9]", "")));
-                        } catch (Exception ignored) {
-                        }
-                    }
+        List<MaintenanceResponse.SimpleDTO> items = hasNext ? rows.subList(0, size) : rows;
 
-                    if (approvedAttempt.getFinalAmount() != null) {
-                        finalAmount = moneyFmt.format(approvedAttempt.getFinalAmount());
-                    }
-                }
+        String nextCursor = hasNext
+                ? MaintenanceCursor.of(items.get(items.size() - 1)).encode()
+                : null;
 
-                row.createCell(c++).setCellValue(estimateAmount);
-                row.createCell(c++).setCellValue(finalAmount);
+        return new MaintenanceResponse.CursorPageDTO(items, nextCursor, hasNext);
+    }
 
-                lcell.apply(row, c++).setCellValue(safe(m.getResultComment())); // ✅ 작업내용 좌측정렬
-            }
+    // "yyyy-MM" → 해당 월 시작/다음 월 시작 (없으면 null)
+    private LocalDateTime monthStart(String yearMonth) {
+        if (yearMonth == null || yearMonth.isBlank())
+            return null;
+        return YearMonth.parse(yearMonth.trim()).atDay(1).atStartOfDay();
+    }
 
-            // ================= 컬럼 너비 =================
-            int[] widths = {
-                    14, 9, 20, 90, 30,
-                    17, 14, 14, 17,
-                    17, 14, 14, 40
-            };
-            for (int i = 0; i < widths.length; i++) {
-                sheet.setColumnWidth(i, widths[i] * 256);
-            }
+    private LocalDateTime monthEnd(String yearMonth) {
+        if (yearMonth == null || yearMonth.isBlank())
+            return null;
+        return YearMonth.parse(yearMonth.trim()).plusMonths(1).atDay(1).atStartOfDay();
+    }
 
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            wb.write(bos); // ✅ 여기서 IOException 가능
-            return bos.toByteArray();
+    @Transactional(readOnly = true)
+    public MaintenanceResponse.DetailDTO getDetailDtoForOps(LoginUser currentUser, Long id) {
 
-        } catch (java.io.IOException e) {
-            throw new ExceptionApi400("엑셀 생성 실패(IO): " + e.getMessage());
-        } catch (Exception e) {
-            throw new ExceptionApi400("엑셀 생성 실패: " + e.getMessage());
+        if (currentUser == null ||
+                !(currentUser.role() == UserRole.HQ || currentUser.role() == UserRole.VENDOR)) {
+            throw new ExceptionApi403("HQ 또는 VENDOR 권한이 필요합니다.");
         }
 
-    }
+        Maintenance m = maintenanceRepository.findDetailById(id)
+                .orElseThrow(() -> new ExceptionApi404("해당 요청이 없습니다."));
 
-    private String safe(String s) {
-        return s == null ? "" : s;
+        return toDetailDTO(m);
     }
 }
@@ -0,0 +1,101 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+
+/**
+ * 요청번호(yyMMdd-NNN) 발급기
+ * - DB(daily_sequence)에서 blockSize개씩 예약해 두고 메모리에서 CAS로 하나씩 발급
+ *   → 생성 트랜잭션마다 daily_sequence 행을 잠그지 않음
+ * - 날짜 기준은 Asia/Seoul, 자정이 지나면 새 날짜로 블록을 다시 예약 (번호 1부터)
+ * - 노드 재시작/자정 전환 시 남은 블록 번호는 버려짐 (번호에 빈칸은 생길 수 있으나 중복은 없음)
+ * - 번호 자릿수(suffixWidth)는 설정 가능, 최대값(10^width - 1) 초과 시 400
+ */
+@Component
+public class RequestNoAllocator {
+
+    private static final DateTimeFormatter REQ_NO_FMT = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 예약된 블록 (cursor가 end를 넘으면 소진)
+    private record Block(LocalDate day, AtomicLong cursor, long end) {
+    }
+
+    private final SequenceBlockSource blockSource;
+    private final int blockSize;
+    private final int suffixWidth;
+    private final long maxPerDay;
+    private final Clock clock;
+
+    private final AtomicReference<Block> current = new AtomicReference<>();
+
+    @Autowired
+    public RequestNoAllocator(
+            SequenceBlockSource blockSource,
+            @Value("${maintenance.request-no.block-size:20}") int blockSize,
+            @Value("${maintenance.request-no.suffix-width:3}") int suffixWidth) {
+        this(blockSource, blockSize, suffixWidth, Clock.system(ZONE));
+    }
+
+    RequestNoAllocator(SequenceBlockSource blockSource, int blockSize, int suffixWidth, Clock clock) {
+        if (blockSize < 1)
+            throw new IllegalArgumentException("blockSize >= 1");
+        if (suffixWidth < 3 || suffixWidth > 9)
+            throw new IllegalArgumentException("suffixWidth 3~9");
+
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+        this.suffixWidth = suffixWidth;
+        this.maxPerDay = (long) Math.pow(10, suffixWidth) - 1;
+        this.clock = clock;
+    }
+
+    public String next() {
+        LocalDate today = LocalDate.now(clock.withZone(ZONE));
+
+        while (true) {
+            Block b = current.get();
+
+            // ✅ fast path: 락 없이 CAS 증가
+            if (b != null && b.day().equals(today)) {
+                long n = b.cursor().getAndIncrement();
+                if (n <= b.end())
+                    return format(today, n);
+            }
+
+            refill(b, today);
+        }
+    }
+
+    // 블록 소진/날짜 변경 시에만 진입 (동시에 여러 스레드가 와도 예약은 1번)
+    private synchronized void refill(Block seen, LocalDate today) {
+        if (current.get() != seen)
+            return; // 다른 스레드가 이미 교체함
+
+        long first = blockSource.reserve(today, blockSize);
+        if (first > maxPerDay) {
+            throw new ExceptionApi400("일일 최대 요청 수(" + maxPerDay + "건)를 초과했습니다.");
+        }
+
+        long end = Math.min(first + blockSize - 1, maxPerDay);
+        current.set(new Block(today, new AtomicLong(first), end));
+    }
+
+    private String format(LocalDate day, long n) {
+        String suffix = String.valueOf(n);
+        if (suffix.length() < suffixWidth) {
+            suffix = "0".repeat(suffixWidth - suffix.length()) + suffix;
+        }
+        return day.format(REQ_NO_FMT) + "-" + suffix;
+    }
+}
@@ -0,0 +1,13 @@
+package com.juvis.juvis.maintenance;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 번호 블록 예약
+ * - 반환값: 예약된 블록의 첫 번호 (블록 = [first, first + blockSize - 1])
+ * - 여러 노드가 동시에 호출해도 블록이 겹치지 않아야 함
+ */
+public interface SequenceBlockSource {
+
+    long reserve(LocalDate day, int blockSize);
+}
@@ -3,6 +3,7 @@ package com.juvis.juvis.maintenance_admin;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,12 +25,21 @@ public class MaintenanceAdminController {
                 return Resp.ok(maintenanceAdminService.getSummary(loginUser));
         }
 
+        // ✅ summary 카운터 재계산 (어긋났을 때 수동 보정)
+        @PostMapping("/summary/rebuild")
+        public ResponseEntity<?> rebuildSummary(@AuthenticationPrincipal LoginUser loginUser) {
+                maintenanceAdminService.rebuildCounters(loginUser);
+                return Resp.ok(maintenanceAdminService.getSummary(loginUser));
+        }
+
         // ✅ 목록 (status=REQUESTED 등)
         @GetMapping
         public ResponseEntity<?> list(
                         @AuthenticationPrincipal LoginUser loginUser,
-                        @RequestParam(value = "status", required = false) String status) {
+                        @RequestParam(value = "status", required = false) String status,
+                        @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+                        @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
 
-                return Resp.ok(maintenanceAdminService.getList(loginUser, status));
+                return Resp.ok(maintenanceAdminService.getList(loginUser, status, page, size));
         }
 }
\ No newline at end of file
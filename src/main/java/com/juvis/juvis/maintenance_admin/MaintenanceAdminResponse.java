@@ -1,11 +1,12 @@
 package com.juvis.juvis.maintenance_admin;
 
 import com.juvis.juvis._core.enums.MaintenanceStatus;
-import com.juvis.juvis.maintenance.Maintenance;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import org.springframework.data.domain.Slice;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -31,20 +32,18 @@ public class MaintenanceAdminResponse {
         private String branchName;
         private String requesterName;
         private LocalDateTime createdAt;
-
-        public ListItemDTO(Maintenance m) {
-            this.id = m.getId();
-            this.title = m.getTitle();
-            this.status = m.getStatus();
-            this.branchName = m.getBranch() != null ? m.getBranch().getBranchName() : null;
-            this.requesterName = m.getRequester() != null ? m.getRequester().getName() : null;
-            this.createdAt = m.getCreatedAt();
-        }
     }
 
     @Getter
     @AllArgsConstructor
     public static class ListDTO {
         private List<ListItemDTO> items;
+        private int page;
+        private int size;
+        private boolean hasNext;
+
+        public ListDTO(Slice<ListItemDTO> slice) {
+            this(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+        }
     }
 }
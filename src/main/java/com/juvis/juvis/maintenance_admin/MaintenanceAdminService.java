@@ -3,22 +3,27 @@ package com.juvis.juvis.maintenance_admin;
 import com.juvis.juvis._core.enums.MaintenanceStatus;
 import com.juvis.juvis._core.enums.UserRole;
 import com.juvis.juvis._core.error.ex.ExceptionApi403;
-import com.juvis.juvis.maintenance.Maintenance;
 import com.juvis.juvis.maintenance.MaintenanceRepository;
+import com.juvis.juvis.maintenance_counter.MaintenanceCounterService;
 import com.juvis.juvis.user.LoginUser;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MaintenanceAdminService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceCounterService maintenanceCounterService;
 
     private void requireHq(LoginUser loginUser) {
         if (loginUser == null || loginUser.role() != UserRole.HQ) {
@@ -29,31 +34,40 @@ public class MaintenanceAdminService {
     public MaintenanceAdminResponse.SummaryDTO getSummary(LoginUser loginUser) {
         requireHq(loginUser);
 
-        long requested = maintenanceRepository.countByStatus(MaintenanceStatus.REQUESTED);
-        long estimating = maintenanceRepository.countByStatus(MaintenanceStatus.ESTIMATING);
-        long approvalPending = maintenanceRepository.countByStatus(MaintenanceStatus.APPROVAL_PENDING);
-        long hq2Rejected = maintenanceRepository.countByStatus(MaintenanceStatus.HQ2_REJECTED);
-        long inProgress = maintenanceRepository.countByStatus(MaintenanceStatus.IN_PROGRESS);
-        long completed = maintenanceRepository.countByStatus(MaintenanceStatus.COMPLETED);
+        // ✅ 상태별 카운터 테이블에서 한 번에 조회 (count 쿼리 없음)
+        Map<MaintenanceStatus, Long> c = maintenanceCounterService.countsForAll();
 
         return new MaintenanceAdminResponse.SummaryDTO(
-                requested, estimating, approvalPending, hq2Rejected,inProgress, completed
+                c.get(MaintenanceStatus.REQUESTED),
+                c.get(MaintenanceStatus.ESTIMATING),
+                c.get(MaintenanceStatus.APPROVAL_PENDING),
+                c.get(MaintenanceStatus.HQ2_REJECTED),
+                c.get(MaintenanceStatus.IN_PROGRESS),
+                c.get(MaintenanceStatus.COMPLETED)
         );
     }
 
-    public MaintenanceAdminResponse.ListDTO getList(LoginUser loginUser, String status) {
+    // ✅ 카운터 어긋남 수동 보정
+    @Transactional
+    public void rebuildCounters(LoginUser loginUser) {
         requireHq(loginUser);
+        maintenanceCounterService.rebuild();
+    }
 
-        List<Maintenance> list;
-        if (status == null || status.isBlank()) {
-            list = maintenanceRepository.findAllByOrderByCreatedAtDesc();
-        } else {
-            MaintenanceStatus s = MaintenanceStatus.valueOf(status.trim().toUpperCase());
-            list = maintenanceRepository.findByStatusOrderByCreatedAtDesc(s);
-        }
+    public MaintenanceAdminResponse.ListDTO getList(LoginUser loginUser, String status, int page, int size) {
+        requireHq(loginUser);
 
+        MaintenanceStatus s = (status == null || status.isBlank())
+                ? null
+                : MaintenanceStatus.valueOf(status.trim().toUpperCase());
+
+        // ✅ 목록 컬럼만 페이지 단위로 조회 (테이블 크기와 무관하게 size건만 읽음)
         return new MaintenanceAdminResponse.ListDTO(
-                list.stream().map(MaintenanceAdminResponse.ListItemDTO::new).toList()
-        );
+                maintenanceRepository.findAdminListItems(s, pageRequest(page, size)));
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        int fixedSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return PageRequest.of(Math.max(page, 0), fixedSize);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.juvis.juvis.maintenance_counter;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// ✅ 카운터 재계산: 기동 시 1회 + 매일 새벽(어긋남 보정)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaintenanceCounterRebuilder {
+
+    private final MaintenanceCounterService counterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuildSafely("startup");
+    }
+
+    @Scheduled(cron = "${maintenance.counter.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void nightly() {
+        rebuildSafely("nightly");
+    }
+
+    private void rebuildSafely(String trigger) {
+        try {
+            counterService.rebuild();
+        } catch (Exception e) {
+            // 실패해도 기존 카운터로 계속 서비스 (다음 주기에 재시도)
+            log.error("[COUNTER] rebuild failed trigger={}", trigger, e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.juvis.juvis.maintenance_counter;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis.maintenance.Maintenance;
+import com.juvis.juvis.maintenance_counter.MaintenanceStatusCounter.Scope;
+import com.juvis.juvis.user.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상태별 건수 카운터
+ * - 생성/상태 전이/업체 배정 시 호출한 트랜잭션 안에서 증감 → 롤백되면 같이 롤백
+ * - 여러 인스턴스에서도 DB 한 곳을 보므로 값이 어긋나지 않음
+ * - summary 조회는 (scope, scopeId) PK 범위 조회 1번
+ * - 어긋남(직접 DB 수정 등)은 rebuild()로 원본 기준 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MaintenanceCounterService {
+
+    private static final long ALL_SCOPE_ID = 0L;
+
+    // 락 순서 고정용 (동시 전이 시 데드락 방지)
+    private static final Comparator<MaintenanceStatusCounter.Key> KEY_ORDER = Comparator
+            .comparing((MaintenanceStatusCounter.Key k) -> k.getScope().name())
+            .thenComparing(MaintenanceStatusCounter.Key::getScopeId)
+            .thenComparing(k -> k.getStatus().name());
+
+    private final MaintenanceStatusCounterRepository counterRepository;
+
+    // ========================= 조회 =========================
+
+    public Map<MaintenanceStatus, Long> countsForAll() {
+        return counts(Scope.ALL, ALL_SCOPE_ID);
+    }
+
+    public Map<MaintenanceStatus, Long> countsForVendor(Integer vendorId) {
+        return counts(Scope.VENDOR, vendorId.longValue());
+    }
+
+    public Map<MaintenanceStatus, Long> countsForBranch(Long branchId) {
+        return counts(Scope.BRANCH, branchId);
+    }
+
+    private Map<MaintenanceStatus, Long> counts(Scope scope, Long scopeId) {
+        Map<MaintenanceStatus, Long> result = new EnumMap<>(MaintenanceStatus.class);
+        for (MaintenanceStatus s : MaintenanceStatus.values()) {
+            result.put(s, 0L);
+        }
+        for (MaintenanceStatusCounter c : counterRepository.findByScopeAndScopeId(scope, scopeId)) {
+            result.put(c.getStatus(), Math.max(0L, c.getCnt()));
+        }
+        return result;
+    }
+
+    // ========================= 증감 =========================
+
+    // 신규 저장 직후
+    @Transactional
+    public void onCreated(Maintenance m) {
+        Map<MaintenanceStatusCounter.Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        addAll(deltas, m, vendorIdOf(m.getVendor()), m.getStatus(), +1);
+        apply(deltas);
+    }
+
+    // 상태 전이 (before → next)
+    @Transactional
+    public void onTransition(Maintenance m, MaintenanceStatus before, MaintenanceStatus next) {
+        if (before == next)
+            return;
+
+        Map<MaintenanceStatusCounter.Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        Integer vendorId = vendorIdOf(m.getVendor());
+        addAll(deltas, m, vendorId, before, -1);
+        addAll(deltas, m, vendorId, next, +1);
+        apply(deltas);
+    }
+
+    // 업체 배정/변경 (현재 상태 건수를 업체 간 이동)
+    @Transactional
+    public void onVendorChanged(Maintenance m, User oldVendor, User newVendor) {
+        Integer oldId = vendorIdOf(oldVendor);
+        Integer newId = vendorIdOf(newVendor);
+        if (m.getStatus() == null || Objects.equals(oldId, newId))
+            return;
+
+        Map<MaintenanceStatusCounter.Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        if (oldId != null)
+            merge(deltas, Scope.VENDOR, oldId.longValue(), m.getStatus(), -1);
+        if (newId != null)
+            merge(deltas, Scope.VENDOR, newId.longValue(), m.getStatus(), +1);
+        apply(deltas);
+    }
+
+    private void addAll(Map<MaintenanceStatusCounter.Key, Long> deltas, Maintenance m, Integer vendorId,
+            MaintenanceStatus status, long delta) {
+        if (status == null)
+            return;
+
+        merge(deltas, Scope.ALL, ALL_SCOPE_ID, status, delta);
+        if (m.getBranch() != null)
+            merge(deltas, Scope.BRANCH, m.getBranch().getId(), status, delta);
+        if (vendorId != null)
+            merge(deltas, Scope.VENDOR, vendorId.longValue(), status, delta);
+    }
+
+    private void merge(Map<MaintenanceStatusCounter.Key, Long> deltas, Scope scope, Long scopeId,
+            MaintenanceStatus status, long delta) {
+        deltas.merge(new MaintenanceStatusCounter.Key(scope, scopeId, status), delta, Long::sum);
+    }
+
+    private void apply(Map<MaintenanceStatusCounter.Key, Long> deltas) {
+        for (Map.Entry<MaintenanceStatusCounter.Key, Long> e : deltas.entrySet()) {
+            if (e.getValue() == 0)
+                continue;
+            MaintenanceStatusCounter.Key k = e.getKey();
+            counterRepository.add(k.getScope().name(), k.getScopeId(), k.getStatus().name(), e.getValue());
+        }
+    }
+
+    private Integer vendorIdOf(User vendor) {
+        return vendor == null ? null : vendor.getId();
+    }
+
+    // ========================= 재계산 =========================
+
+    // 원본(maintenance_request) 기준으로 전체 재계산 (한 트랜잭션)
+    @Transactional
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        counterRepository.deleteAllRows();
+        int all = counterRepository.rebuildAll();
+        int branch = counterRepository.rebuildBranch();
+        int vendor = counterRepository.rebuildVendor();
+
+        log.info("[COUNTER] rebuild done rows(all={}, branch={}, vendor={}) took={}ms",
+                all, branch, vendor, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,51 @@
+package com.juvis.juvis.maintenance_counter;
+
+import java.io.Serializable;
+
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상태별 요청 건수 (scope별)
+ * - ALL: scopeId=0 / BRANCH: branch_id / VENDOR: vendor_id
+ */
+@Entity
+@Table(name = "maintenance_status_counter")
+@IdClass(MaintenanceStatusCounter.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MaintenanceStatusCounter {
+
+    public enum Scope {
+        ALL, BRANCH, VENDOR
+    }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", length = 10)
+    private Scope scope;
+
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50)
+    private MaintenanceStatus status;
+
+    @Column(name = "cnt", nullable = false)
+    private long cnt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Scope scope;
+        private Long scopeId;
+        private MaintenanceStatus status;
+    }
+}
@@ -0,0 +1,56 @@
+package com.juvis.juvis.maintenance_counter;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface MaintenanceStatusCounterRepository
+        extends JpaRepository<MaintenanceStatusCounter, MaintenanceStatusCounter.Key> {
+
+    List<MaintenanceStatusCounter> findByScopeAndScopeId(MaintenanceStatusCounter.Scope scope, Long scopeId);
+
+    // 원자적 증감 (없으면 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+            VALUES (?1, ?2, ?3, ?4)
+            ON DUPLICATE KEY UPDATE cnt = cnt + ?4
+            """, nativeQuery = true)
+    void add(String scope, Long scopeId, String status, long delta);
+
+    // ===================== 재계산 (원본 maintenance_request 기준) =====================
+
+    @Modifying
+    @Query(value = "DELETE FROM maintenance_status_counter", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+            SELECT 'ALL', 0, status, COUNT(*)
+            FROM maintenance_request
+            GROUP BY status
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+            SELECT 'BRANCH', branch_id, status, COUNT(*)
+            FROM maintenance_request
+            GROUP BY branch_id, status
+            """, nativeQuery = true)
+    int rebuildBranch();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+            SELECT 'VENDOR', vendor_id, status, COUNT(*)
+            FROM maintenance_request
+            WHERE vendor_id IS NOT NULL
+            GROUP BY vendor_id, status
+            """, nativeQuery = true)
+    int rebuildVendor();
+}
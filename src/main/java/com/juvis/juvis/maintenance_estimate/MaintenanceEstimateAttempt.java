@@ -36,8 +36,9 @@ public class MaintenanceEstimateAttempt {
     @Column(name = "attempt_no", nullable = false)
     private int attemptNo;
 
-    @Column(name = "estimate_amount", nullable = false, length = 50)
-    private String estimateAmount;
+    // ✅ 업체 제출 견적가 (DB 집계용 숫자 컬럼)
+    @Column(name = "estimate_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal estimateAmount;
 
     @Column(name = "estimate_comment", columnDefinition = "TEXT")
     private String estimateComment;
@@ -102,7 +103,7 @@ public class MaintenanceEstimateAttempt {
 
     /** ✅ 견적 수정(영속 엔티티 수정용) */
     public void updateEstimate(
-            String amount,
+            BigDecimal amount,
             String comment,
             LocalDateTime start,
             LocalDateTime end,
@@ -121,7 +122,7 @@ public class MaintenanceEstimateAttempt {
     public static MaintenanceEstimateAttempt create(
             Maintenance m,
             int attemptNo,
-            String amount,
+            BigDecimal amount,
             String comment,
             LocalDateTime start,
             LocalDateTime end,
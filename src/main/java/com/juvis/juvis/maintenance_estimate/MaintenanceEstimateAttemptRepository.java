@@ -1,8 +1,6 @@
 package com.juvis.juvis.maintenance_estimate;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,20 +15,4 @@ public interface MaintenanceEstimateAttemptRepository extends JpaRepository<Main
     Optional<MaintenanceEstimateAttempt> findTopByMaintenance_IdAndHqDecisionOrderByAttemptNoDesc(
             Long maintenanceId,
             MaintenanceEstimateAttempt.HqDecision hqDecision);
-
-    @Query("""
-              select a
-              from MaintenanceEstimateAttempt a
-              where a.maintenance.id in :mids
-                and a.hqDecision = com.juvis.juvis.maintenance_estimate.MaintenanceEstimateAttempt$HqDecision.APPROVED
-                and a.attemptNo = (
-                    select max(a2.attemptNo)
-                    from MaintenanceEstimateAttempt a2
-                    where a2.maintenance.id = a.maintenance.id
-                      and a2.hqDecision = com.juvis.juvis.maintenance_estimate.MaintenanceEstimateAttempt$HqDecision.APPROVED
-                )
-            """)
-    List<MaintenanceEstimateAttempt> findLatestApprovedAttempts(
-            @Param("mids") List<Long> mids);
-
 }
@@ -0,0 +1,61 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * export 파일 로컬 저장 (spring.cloud.aws.s3.enabled=false: 로컬/테스트)
+ * - 파일은 이 인스턴스 디스크에만 있음 → 단일 인스턴스에서만 사용
+ * - 다운로드는 서버가 직접 스트리밍 (Range 이어받기 지원)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.cloud.aws.s3", name = "enabled", havingValue = "false")
+public class LocalExportFileStore implements MaintenanceExportFileStore {
+
+    private static final String FILE_SUFFIX = ".xlsx";
+
+    private final Path dir;
+
+    public LocalExportFileStore(
+            @Value("${maintenance.export.spool-dir:${java.io.tmpdir}/juvis-export}") String spoolDir) throws IOException {
+        this.dir = Path.of(spoolDir, "files");
+        Files.createDirectories(this.dir);
+    }
+
+    @Override
+    public String save(String jobId, Path file) throws IOException {
+        String key = jobId + FILE_SUFFIX;
+        Files.move(file, dir.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+        return key;
+    }
+
+    @Override
+    public String presignedUrl(String fileKey, String fileName) {
+        return null;
+    }
+
+    @Override
+    public Resource load(String fileKey) {
+        return new FileSystemResource(dir.resolve(fileKey));
+    }
+
+    @Override
+    public void delete(String fileKey) {
+        try {
+            Files.deleteIfExists(dir.resolve(fileKey));
+        } catch (IOException e) {
+            log.warn("[EXPORT-JOB] delete failed key={}", fileKey, e);
+        }
+    }
+}
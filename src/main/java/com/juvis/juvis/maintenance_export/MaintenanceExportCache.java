@@ -0,0 +1,172 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+import com.juvis.juvis.maintenance.Maintenance;
+import com.juvis.juvis.maintenance.MaintenanceExportFilter;
+import com.juvis.juvis.maintenance.MaintenanceExportService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 단위 엑셀 export 파일 캐시
+ * - 키: (필터 status/category/branchId/yearMonth, 해당 월 데이터 버전)
+ * - 해당 월 요청의 상태/견적이 바뀌면 onChanged()로 버전 +1 (같은 트랜잭션) → 다음 다운로드는 새로 생성
+ * - 이전 버전 파일은 더 이상 조회되지 않고 TTL/용량 초과 시 삭제
+ * - yearMonth 없는 전체 export는 캐시하지 않음
+ * - 매월 1일 지난달 전체(필터 없음) 파일을 미리 생성
+ */
+@Slf4j
+@Component
+public class MaintenanceExportCache {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String FILE_SUFFIX = ".xlsx";
+
+    private final MaintenanceExportService maintenanceExportService;
+    private final MaintenanceExportVersionRepository versionRepository;
+    private final Path cacheDir;
+    private final Cache<Key, Path> files;
+
+    private record Key(MaintenanceExportFilter filter, long version) {
+    }
+
+    public MaintenanceExportCache(
+            MaintenanceExportService maintenanceExportService,
+            MaintenanceExportVersionRepository versionRepository,
+            @Value("${maintenance.export.cache-dir:${java.io.tmpdir}/juvis-export-cache}") String cacheDir,
+            @Value("${maintenance.export.cache-ttl:7d}") Duration ttl,
+            @Value("${maintenance.export.cache-max-files:200}") long maxFiles) throws IOException {
+        this.maintenanceExportService = maintenanceExportService;
+        this.versionRepository = versionRepository;
+        this.cacheDir = Path.of(cacheDir);
+
+        Files.createDirectories(this.cacheDir);
+        purgeDir(); // 버전을 모르는 이전 실행의 파일은 재사용하지 않음
+
+        this.files = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maxFiles)
+                .removalListener((Key key, Path path, RemovalCause cause) -> {
+                    if (path != null)
+                        deleteQuietly(path);
+                })
+                .build();
+    }
+
+    // ========================= 버전 =========================
+
+    // ✅ 요청 상태/견적 변경 시 호출 (요청 생성월 버전 +1)
+    @Transactional
+    public void onChanged(Maintenance m) {
+        LocalDateTime createdAt = m.getCreatedAt() != null ? m.getCreatedAt() : LocalDateTime.now();
+        versionRepository.bump(YearMonth.from(createdAt).toString());
+    }
+
+    private long currentVersion(YearMonth ym) {
+        return versionRepository.findVersion(ym.toString()).orElse(0L);
+    }
+
+    // ========================= 다운로드 =========================
+
+    /**
+     * yearMonth가 있으면 캐시 파일을 그대로 복사, 없거나 미스면 생성 후 복사
+     * - 같은 키 동시 미스는 한 번만 생성 (Caffeine get)
+     */
+    public void writeOpsExcel(MaintenanceExportFilter filter, OutputStream out) throws IOException {
+        if (filter.yearMonth() == null) {
+            maintenanceExportService.writeOpsExcel(filter, out);
+            return;
+        }
+
+        Path file = getOrRender(filter);
+        try {
+            Files.copy(file, out);
+        } catch (NoSuchFileException e) {
+            // 복사 직전에 evict로 삭제된 경우: 캐시 없이 바로 생성
+            maintenanceExportService.writeOpsExcel(filter, out);
+        }
+        out.flush();
+    }
+
+    private Path getOrRender(MaintenanceExportFilter filter) {
+        // 버전은 생성 전에 읽음: 생성 중 변경되면 버전이 올라가 다음 요청에서 다시 생성
+        Key key = new Key(filter, currentVersion(filter.yearMonth()));
+        return files.get(key, this::render);
+    }
+
+    private Path render(Key key) {
+        Path part = cacheDir.resolve(UUID.randomUUID() + ".part");
+        Path file = cacheDir.resolve(UUID.randomUUID() + FILE_SUFFIX);
+        long start = System.currentTimeMillis();
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                maintenanceExportService.writeOpsExcel(key.filter(), out);
+            }
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("[EXPORT-CACHE] rendered filter={} version={} took={}ms",
+                    key.filter(), key.version(), System.currentTimeMillis() - start);
+            return file;
+
+        } catch (IOException e) {
+            deleteQuietly(part);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(part);
+            throw e;
+        }
+    }
+
+    // ========================= 미리 생성 =========================
+
+    // ✅ 매월 1일: 지난달 전체 파일 미리 생성 (HQ가 가장 많이 받는 리포트)
+    @Scheduled(cron = "${maintenance.export.pregenerate-cron:0 10 0 1 * *}", zone = "Asia/Seoul")
+    public void pregeneratePreviousMonth() {
+        YearMonth prev = YearMonth.now(SEOUL).minusMonths(1);
+        try {
+            getOrRender(new MaintenanceExportFilter(null, null, null, prev));
+        } catch (ExceptionApi400 | UncheckedIOException e) {
+            log.error("[EXPORT-CACHE] pregenerate failed ym={}", prev, e);
+        }
+    }
+
+    // ========================= 파일 정리 =========================
+
+    private void purgeDir() throws IOException {
+        try (Stream<Path> list = Files.list(cacheDir)) {
+            list.forEach(this::deleteQuietly);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[EXPORT-CACHE] delete failed path={}", path, e);
+        }
+    }
+}
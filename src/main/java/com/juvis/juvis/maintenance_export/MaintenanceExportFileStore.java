@@ -0,0 +1,24 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * export 완료 파일 저장소
+ * - spring.cloud.aws.s3.enabled=true(기본) → S3ExportFileStore: 어느 인스턴스에서든 presigned URL로 다운로드
+ * - spring.cloud.aws.s3.enabled=false → LocalExportFileStore: spool 디렉토리 (단일 인스턴스 로컬/테스트 전용)
+ */
+public interface MaintenanceExportFileStore {
+
+    // 완성된 임시 파일을 저장소로 옮기고 fileKey 반환 (임시 파일은 호출 후 삭제해도 됨)
+    String save(String jobId, Path file) throws IOException;
+
+    // 브라우저가 직접 받을 URL (없으면 null → 서버가 load()로 스트리밍)
+    String presignedUrl(String fileKey, String fileName);
+
+    Resource load(String fileKey);
+
+    void delete(String fileKey);
+}
@@ -0,0 +1,150 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis.maintenance.MaintenanceExportFilter;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 엑셀 export job (DB 보관 → 모든 인스턴스에서 같은 상태, 파일은 MaintenanceExportFileStore)
+ * - 같은 필터로 동시에 들어온 요청은 한 job을 공유 → viewerIds에 추가
+ * - 진행 중에만 activeFilterKey를 채움 (UNIQUE → 인스턴스 간 중복 생성 방지)
+ * - 상태 전이: QUEUED → RUNNING → DONE | FAILED
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "maintenance_export_job", indexes = {
+        @Index(name = "uk_export_job_active_filter", columnList = "active_filter_key", unique = true),
+        @Index(name = "idx_export_job_owner_state", columnList = "owner_id, state"),
+        @Index(name = "idx_export_job_state_created", columnList = "state, created_at"),
+        @Index(name = "idx_export_job_finished", columnList = "finished_at")
+})
+public class MaintenanceExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Integer ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "filter_status", length = 50)
+    private MaintenanceStatus filterStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "filter_category", length = 30)
+    private MaintenanceCategory filterCategory;
+
+    @Column(name = "filter_branch_id")
+    private Long filterBranchId;
+
+    @Column(name = "filter_ym", length = 7)
+    private String filterYm;
+
+    @Column(name = "filter_key", nullable = false, length = 200)
+    private String filterKey;
+
+    @Column(name = "active_filter_key", length = 200)
+    private String activeFilterKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "node", nullable = false, length = 100)
+    private String node;
+
+    @Column(name = "file_key", length = 500)
+    private String fileKey;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "maintenance_export_job_viewer", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "user_id")
+    private Set<Integer> viewerIds = new HashSet<>();
+
+    MaintenanceExportJob(String id, Integer ownerId, MaintenanceExportFilter filter, String node) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.filterStatus = filter.status();
+        this.filterCategory = filter.category();
+        this.filterBranchId = filter.branchId();
+        this.filterYm = filter.yearMonth() == null ? null : filter.yearMonth().toString();
+        this.filterKey = filterKey(filter);
+        this.activeFilterKey = this.filterKey;
+        this.status = Status.QUEUED;
+        this.node = node;
+        this.createdAt = LocalDateTime.now();
+        this.viewerIds.add(ownerId);
+    }
+
+    // 필터 → 중복 판정 키 (null은 "-")
+    static String filterKey(MaintenanceExportFilter filter) {
+        return (filter.status() == null ? "-" : filter.status().name())
+                + "|" + (filter.category() == null ? "-" : filter.category().name())
+                + "|" + (filter.branchId() == null ? "-" : filter.branchId())
+                + "|" + (filter.yearMonth() == null ? "-" : filter.yearMonth());
+    }
+
+    public MaintenanceExportFilter getFilter() {
+        return new MaintenanceExportFilter(
+                filterStatus, filterCategory, filterBranchId,
+                filterYm == null ? null : YearMonth.parse(filterYm));
+    }
+
+    void addViewer(Integer userId) {
+        viewerIds.add(userId);
+    }
+
+    public boolean isActive() {
+        return status == Status.QUEUED || status == Status.RUNNING;
+    }
+
+    void markRunning(String node) {
+        this.node = node;
+        this.status = Status.RUNNING;
+    }
+
+    void markDone(String fileKey, long fileSize, int rowCount) {
+        this.fileKey = fileKey;
+        this.fileSize = fileSize;
+        this.rowCount = rowCount;
+        this.finishedAt = LocalDateTime.now();
+        this.activeFilterKey = null;
+        this.status = Status.DONE;
+    }
+
+    void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.activeFilterKey = null;
+        this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,90 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.util.Resp;
+import com.juvis.juvis.maintenance.MaintenanceExportFilter;
+import com.juvis.juvis.maintenance.MaintenanceExportService;
+import com.juvis.juvis.user.LoginUser;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ops/maintenance/requests/excel/jobs")
+public class MaintenanceExportJobController {
+
+    private static final MediaType XLSX = MediaType
+            .parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final MaintenanceExportService maintenanceExportService;
+    private final MaintenanceExportJobService maintenanceExportJobService;
+
+    // ✅ export job 등록 (필터는 기존 /excel과 동일) → jobId 반환
+    @PostMapping
+    public ResponseEntity<?> submit(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @RequestParam(name = "status", required = false) MaintenanceStatus status,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "yearMonth", required = false) String yearMonth) {
+
+        MaintenanceExportFilter filter = maintenanceExportService.resolveOpsFilter(
+                currentUser, status, category, branchId, yearMonth);
+
+        MaintenanceExportJob job = maintenanceExportJobService.submit(currentUser, filter);
+        return Resp.ok(new MaintenanceExportJobResponse.StatusDTO(job, maintenanceExportJobService.downloadUrl(job)));
+    }
+
+    // ✅ 상태 조회 (polling)
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> status(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @PathVariable("jobId") String jobId) {
+        MaintenanceExportJob job = maintenanceExportJobService.getJob(currentUser, jobId);
+        return Resp.ok(new MaintenanceExportJobResponse.StatusDTO(job, maintenanceExportJobService.downloadUrl(job)));
+    }
+
+    // ✅ 다운로드
+    // - S3 저장소: presigned URL로 302 (어느 인스턴스로 와도 됨)
+    // - 로컬 저장소: Resource 응답이라 Range 요청은 Spring이 206(부분 응답)으로 처리 → 이어받기 가능
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> download(
+            @AuthenticationPrincipal LoginUser currentUser,
+            @PathVariable("jobId") String jobId) {
+
+        MaintenanceExportJob job = maintenanceExportJobService.getFinishedJob(currentUser, jobId);
+
+        String presigned = maintenanceExportJobService.presignedUrl(job);
+        if (presigned != null) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(presigned)).build();
+        }
+
+        String fileName = "juvis_requests.xlsx";
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag("\"" + job.getId() + "\"") // 완료 파일은 변하지 않음 (If-Range 검증용)
+                .contentType(XLSX)
+                .body(maintenanceExportJobService.load(job));
+    }
+}
@@ -0,0 +1,58 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MaintenanceExportJobRepository extends JpaRepository<MaintenanceExportJob, String> {
+
+    Optional<MaintenanceExportJob> findByActiveFilterKey(String activeFilterKey);
+
+    long countByOwnerIdAndStatusIn(Integer ownerId, Collection<MaintenanceExportJob.Status> statuses);
+
+    @Query("""
+            select count(j) > 0
+            from MaintenanceExportJob j
+            join j.viewerIds v
+            where j.id = :id
+              and v = :userId
+            """)
+    boolean existsViewer(@Param("id") String id, @Param("userId") Integer userId);
+
+    // TTL 지난 완료/실패 job (파일 삭제 후 행 삭제)
+    @Query("""
+            select j
+            from MaintenanceExportJob j
+            where j.finishedAt < :before
+            order by j.finishedAt asc
+            """)
+    List<MaintenanceExportJob> findFinishedBefore(@Param("before") LocalDateTime before, Pageable limit);
+
+    // ✅ 진행 중으로 남은 job 실패 처리 (실행 인스턴스 재시작/장애)
+    // - node 지정: 재시작한 인스턴스 자신의 job
+    // - createdBefore 지정: 오래 끝나지 않은 job (다른 인스턴스가 사라진 경우)
+    @Modifying
+    @Query("""
+            update MaintenanceExportJob j
+            set j.status = com.juvis.juvis.maintenance_export.MaintenanceExportJob.Status.FAILED,
+                j.errorMessage = :message,
+                j.activeFilterKey = null,
+                j.finishedAt = :now
+            where j.status in :active
+              and (:node is null or j.node = :node)
+              and (:createdBefore is null or j.createdAt < :createdBefore)
+            """)
+    int failActive(
+            @Param("active") Collection<MaintenanceExportJob.Status> active,
+            @Param("node") String node,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("message") String message,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,31 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+public class MaintenanceExportJobResponse {
+
+    @Getter
+    public static class StatusDTO {
+        private String jobId;
+        private String status;
+        private int rowCount;
+        private long fileSize;
+        private LocalDateTime createdAt;
+        private LocalDateTime finishedAt;
+        private String errorMessage;
+        private String downloadUrl; // DONE일 때만 (S3 presigned URL 또는 API 다운로드 경로)
+
+        public StatusDTO(MaintenanceExportJob job, String downloadUrl) {
+            this.jobId = job.getId();
+            this.status = job.getStatus().name();
+            this.rowCount = job.getRowCount();
+            this.fileSize = job.getFileSize();
+            this.createdAt = job.getCreatedAt();
+            this.finishedAt = job.getFinishedAt();
+            this.errorMessage = job.getErrorMessage();
+            this.downloadUrl = downloadUrl;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+import com.juvis.juvis._core.error.ex.ExceptionApi403;
+import com.juvis.juvis._core.error.ex.ExceptionApi404;
+import com.juvis.juvis.maintenance.MaintenanceExportFilter;
+import com.juvis.juvis.maintenance.MaintenanceExportService;
+import com.juvis.juvis.user.LoginUser;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엑셀 export 백그라운드 job
+ * - 요청 스레드는 job 등록만 하고 바로 반환 (ALB idle timeout과 무관)
+ * - 전용 executor(고정 스레드 + 대기열 상한), 사용자별 동시 job 상한
+ * - 같은 필터의 진행 중 job이 있으면 새로 만들지 않고 공유 (DB UNIQUE → 인스턴스 간에도 하나)
+ * - job 상태는 DB(maintenance_export_job), 완료 파일은 MaintenanceExportFileStore(운영: S3)
+ *   → 상태 조회/다운로드는 어느 인스턴스로 와도 됨, 생성은 등록받은 인스턴스가 수행
+ * - 실행 인스턴스가 재시작/장애로 사라지면: 재시작 시 자기 job, 그 외는 stale-after 지난 job을 FAILED 처리
+ * - TTL 지난 job은 파일과 함께 삭제
+ */
+@Slf4j
+@Service
+public class MaintenanceExportJobService {
+
+    private static final String PART_SUFFIX = ".xlsx.part";
+    private static final String FILE_NAME = "juvis_requests.xlsx";
+    private static final int CLEANUP_BATCH = 100;
+
+    private final MaintenanceExportService maintenanceExportService;
+    private final MaintenanceExportJobStateService stateService;
+    private final MaintenanceExportFileStore fileStore;
+    private final ThreadPoolTaskExecutor executor;
+    private final Path spoolDir;
+    private final Duration ttl;
+    private final Duration staleAfter;
+    private final int maxJobsPerUser;
+    private final String node;
+
+    public MaintenanceExportJobService(
+            MaintenanceExportService maintenanceExportService,
+            MaintenanceExportJobStateService stateService,
+            MaintenanceExportFileStore fileStore,
+            @Value("${maintenance.export.spool-dir:${java.io.tmpdir}/juvis-export}") String spoolDir,
+            @Value("${maintenance.export.ttl:1h}") Duration ttl,
+            @Value("${maintenance.export.stale-after:30m}") Duration staleAfter,
+            @Value("${maintenance.export.workers:2}") int workers,
+            @Value("${maintenance.export.queue-capacity:20}") int queueCapacity,
+            @Value("${maintenance.export.max-jobs-per-user:2}") int maxJobsPerUser,
+            @Value("${maintenance.export.node-id:${HOSTNAME:local}}") String node) throws IOException {
+        this.maintenanceExportService = maintenanceExportService;
+        this.stateService = stateService;
+        this.fileStore = fileStore;
+        this.spoolDir = Path.of(spoolDir);
+        this.ttl = ttl;
+        this.staleAfter = staleAfter;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.node = node;
+
+        // ✅ @Async 기본 executor와 분리 (export가 푸시 발송 스레드를 잡지 않도록)
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("export-");
+        this.executor.initialize();
+
+        Files.createDirectories(this.spoolDir);
+        purgeParts(); // 재시작 전 생성 중이던 임시 파일 정리
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 재시작 전 이 인스턴스가 맡았던 job은 다시 실행되지 않음 → 실패로 닫아서 같은 필터 재요청 가능하게
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOwnJobs() {
+        int failed = stateService.failActive(node, null, "서버 재시작으로 중단되었습니다. 다시 요청해주세요.");
+        if (failed > 0)
+            log.warn("[EXPORT-JOB] node={} restarted, failed {} unfinished jobs", node, failed);
+    }
+
+    // ========================= 제출 =========================
+
+    public MaintenanceExportJob submit(LoginUser loginUser, MaintenanceExportFilter filter) {
+        String filterKey = MaintenanceExportJob.filterKey(filter);
+
+        // ✅ 같은 필터가 진행 중이면 공유 (다른 인스턴스가 등록한 job 포함)
+        Optional<MaintenanceExportJob> running = stateService.joinActive(filterKey, loginUser.id());
+        if (running.isPresent())
+            return running.get();
+
+        if (stateService.countActive(loginUser.id()) >= maxJobsPerUser) {
+            throw new ExceptionApi400("동시에 생성할 수 있는 엑셀은 최대 " + maxJobsPerUser + "건입니다.");
+        }
+
+        MaintenanceExportJob job;
+        try {
+            job = stateService.create(UUID.randomUUID().toString(), loginUser.id(), filter, node);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 다른 요청/인스턴스가 같은 필터를 먼저 등록
+            return stateService.joinActive(filterKey, loginUser.id())
+                    .orElseThrow(() -> new ExceptionApi400("엑셀 생성 요청이 겹쳤습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        String jobId = job.getId();
+        try {
+            executor.execute(() -> run(jobId, filter));
+        } catch (TaskRejectedException e) {
+            stateService.markFailed(jobId, "엑셀 생성 대기열이 가득 찼습니다.");
+            throw new ExceptionApi400("엑셀 생성 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("[EXPORT-JOB] submitted id={} user={} node={} filter={}", jobId, loginUser.id(), node, filter);
+        return job;
+    }
+
+    private void run(String jobId, MaintenanceExportFilter filter) {
+        stateService.markRunning(jobId, node);
+
+        Path part = spoolDir.resolve(jobId + PART_SUFFIX);
+        long start = System.currentTimeMillis();
+
+        try {
+            int rows;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                rows = maintenanceExportService.writeOpsExcel(filter, out);
+            }
+
+            // ✅ 다 쓴 파일만 저장소로 (다운로드 중 미완성 파일 노출 방지)
+            long size = Files.size(part);
+            String fileKey = fileStore.save(jobId, part);
+            stateService.markDone(jobId, fileKey, size, rows);
+
+            log.info("[EXPORT-JOB] done id={} rows={} bytes={} took={}ms",
+                    jobId, rows, size, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.error("[EXPORT-JOB] failed id={} filter={}", jobId, filter, e);
+            stateService.markFailed(jobId, "엑셀 생성에 실패했습니다.");
+        } finally {
+            deleteQuietly(part);
+        }
+    }
+
+    // ========================= 조회/다운로드 =========================
+
+    public MaintenanceExportJob getJob(LoginUser loginUser, String jobId) {
+        MaintenanceExportJob job = stateService.find(jobId)
+                .orElseThrow(() -> new ExceptionApi404("export job을 찾을 수 없습니다. (만료됨)"));
+        if (!stateService.canView(jobId, loginUser.id())) {
+            throw new ExceptionApi403("본인이 요청한 export만 조회할 수 있습니다.");
+        }
+        return job;
+    }
+
+    public MaintenanceExportJob getFinishedJob(LoginUser loginUser, String jobId) {
+        MaintenanceExportJob job = getJob(loginUser, jobId);
+
+        if (job.getStatus() != MaintenanceExportJob.Status.DONE) {
+            throw new ExceptionApi400("다운로드할 수 없는 상태입니다. status=" + job.getStatus());
+        }
+        return job;
+    }
+
+    // DONE이면 브라우저가 직접 받을 URL (S3 presigned), 로컬 저장소면 API 다운로드 경로
+    public String downloadUrl(MaintenanceExportJob job) {
+        if (job.getStatus() != MaintenanceExportJob.Status.DONE)
+            return null;
+
+        String url = fileStore.presignedUrl(job.getFileKey(), FILE_NAME);
+        return url != null ? url : "/api/ops/maintenance/requests/excel/jobs/" + job.getId() + "/file";
+    }
+
+    // S3면 presigned URL (컨트롤러가 redirect), 로컬 저장소면 null
+    public String presignedUrl(MaintenanceExportJob job) {
+        return fileStore.presignedUrl(job.getFileKey(), FILE_NAME);
+    }
+
+    public Resource load(MaintenanceExportJob job) {
+        Resource resource = fileStore.load(job.getFileKey());
+        if (!resource.exists()) {
+            throw new ExceptionApi404("파일이 만료되었습니다. 다시 요청해주세요.");
+        }
+        return resource;
+    }
+
+    // ========================= 정리 =========================
+
+    // 완료/실패 후 TTL 지난 job + 파일 삭제, 오래 끝나지 않은 job(실행 인스턴스 소실) 실패 처리
+    // - 여러 인스턴스에서 돌아도 삭제/실패 처리가 멱등
+    @Scheduled(fixedDelayString = "${maintenance.export.cleanup-delay-ms:300000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int stale = stateService.failActive(null, now.minus(staleAfter), "엑셀 생성이 시간 내에 끝나지 않았습니다.");
+        if (stale > 0)
+            log.warn("[EXPORT-JOB] failed {} stale jobs", stale);
+
+        List<MaintenanceExportJob> expired = stateService.findFinishedBefore(now.minus(ttl), CLEANUP_BATCH);
+        for (MaintenanceExportJob job : expired) {
+            if (job.getFileKey() != null)
+                fileStore.delete(job.getFileKey());
+            stateService.delete(job.getId());
+        }
+    }
+
+    private void purgeParts() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            files.filter(p -> p.getFileName().toString().endsWith(PART_SUFFIX))
+                    .forEach(this::deleteQuietly);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[EXPORT-JOB] delete failed path={}", path, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.juvis.juvis.maintenance.MaintenanceExportFilter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * export job 상태 변경 (각 메서드가 짧은 트랜잭션 1개)
+ * - 엑셀 생성/파일 업로드는 MaintenanceExportJobService에서 트랜잭션 밖에서 수행
+ * - create()의 UNIQUE 충돌(다른 인스턴스가 같은 필터를 먼저 등록)은 호출자가 받아서 joinActive()로 재시도
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MaintenanceExportJobStateService {
+
+    static final Set<MaintenanceExportJob.Status> ACTIVE = EnumSet.of(
+            MaintenanceExportJob.Status.QUEUED, MaintenanceExportJob.Status.RUNNING);
+
+    private final MaintenanceExportJobRepository jobRepository;
+
+    // 같은 필터의 진행 중 job이 있으면 조회 권한 추가 후 반환
+    public Optional<MaintenanceExportJob> joinActive(String filterKey, Integer userId) {
+        Optional<MaintenanceExportJob> job = jobRepository.findByActiveFilterKey(filterKey);
+        job.ifPresent(j -> j.addViewer(userId));
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public long countActive(Integer ownerId) {
+        return jobRepository.countByOwnerIdAndStatusIn(ownerId, ACTIVE);
+    }
+
+    // 커밋 시 active_filter_key UNIQUE 검사 → 충돌하면 DataIntegrityViolationException
+    public MaintenanceExportJob create(String id, Integer ownerId, MaintenanceExportFilter filter, String node) {
+        return jobRepository.saveAndFlush(new MaintenanceExportJob(id, ownerId, filter, node));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<MaintenanceExportJob> find(String id) {
+        return jobRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean canView(String id, Integer userId) {
+        return jobRepository.existsViewer(id, userId);
+    }
+
+    public void markRunning(String id, String node) {
+        jobRepository.findById(id).ifPresent(j -> j.markRunning(node));
+    }
+
+    public void markDone(String id, String fileKey, long fileSize, int rowCount) {
+        jobRepository.findById(id).ifPresent(j -> j.markDone(fileKey, fileSize, rowCount));
+    }
+
+    public void markFailed(String id, String errorMessage) {
+        jobRepository.findById(id).ifPresent(j -> j.markFailed(errorMessage));
+    }
+
+    public int failActive(String node, LocalDateTime createdBefore, String message) {
+        return jobRepository.failActive(ACTIVE, node, createdBefore, message, LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MaintenanceExportJob> findFinishedBefore(LocalDateTime before, int limit) {
+        return jobRepository.findFinishedBefore(before, PageRequest.of(0, limit));
+    }
+
+    public void delete(String id) {
+        jobRepository.findById(id).ifPresent(jobRepository::delete);
+    }
+}
@@ -0,0 +1,27 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 월(요청 생성월)별 export 데이터 버전
+ * - 해당 월 요청의 상태/견적 변경 시 +1 (MaintenanceExportCache.onChanged)
+ */
+@Entity
+@Table(name = "maintenance_export_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MaintenanceExportVersion {
+
+    @Id
+    @Column(name = "ym", length = 7)
+    private String ym; // yyyy-MM
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
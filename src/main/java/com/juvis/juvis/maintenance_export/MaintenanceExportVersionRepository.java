@@ -0,0 +1,23 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MaintenanceExportVersionRepository extends JpaRepository<MaintenanceExportVersion, String> {
+
+    @Query("select v.version from MaintenanceExportVersion v where v.ym = :ym")
+    Optional<Long> findVersion(@Param("ym") String ym);
+
+    // 원자적 +1 (없으면 1로 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_export_version (ym, version)
+            VALUES (?1, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1
+            """, nativeQuery = true)
+    void bump(String ym);
+}
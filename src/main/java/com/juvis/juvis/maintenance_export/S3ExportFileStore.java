@@ -0,0 +1,102 @@
+package com.juvis.juvis.maintenance_export;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.juvis.juvis.storage.StorageProps;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+/**
+ * export 파일 S3 저장 (app.s3.bucket, {prefix}/{jobId}.xlsx)
+ * - 다운로드는 presigned GET URL (Content-Disposition 포함) → 파일을 만든 인스턴스와 무관
+ * - 만료 파일은 job 정리 시 삭제 (버킷 lifecycle 규칙으로 한 번 더 보호 권장)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.cloud.aws.s3", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class S3ExportFileStore implements MaintenanceExportFileStore {
+
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final StorageProps props;
+    private final String prefix;
+
+    public S3ExportFileStore(
+            S3Client s3Client,
+            S3Presigner presigner,
+            StorageProps props,
+            @Value("${maintenance.export.s3-prefix:exports}") String prefix) {
+        this.s3Client = s3Client;
+        this.presigner = presigner;
+        this.props = props;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public String save(String jobId, Path file) {
+        String key = prefix + "/" + jobId + ".xlsx";
+
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(props.getBucket())
+                .key(key)
+                .contentType(XLSX)
+                .build(), RequestBody.fromFile(file));
+        return key;
+    }
+
+    @Override
+    public String presignedUrl(String fileKey, String fileName) {
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+        GetObjectRequest gor = GetObjectRequest.builder()
+                .bucket(props.getBucket())
+                .key(fileKey)
+                .responseContentDisposition("attachment; filename*=UTF-8''" + encoded)
+                .responseContentType(XLSX)
+                .build();
+
+        GetObjectPresignRequest presignReq = GetObjectPresignRequest.builder()
+                .signatureDuration(props.getGetUrlTtl())
+                .getObjectRequest(gor)
+                .build();
+
+        return presigner.presignGetObject(presignReq).url().toString();
+    }
+
+    @Override
+    public Resource load(String fileKey) {
+        return new InputStreamResource(s3Client.getObject(GetObjectRequest.builder()
+                .bucket(props.getBucket())
+                .key(fileKey)
+                .build()));
+    }
+
+    @Override
+    public void delete(String fileKey) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(props.getBucket())
+                    .key(fileKey)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("[EXPORT-JOB] s3 delete failed key={}", fileKey, e);
+        }
+    }
+}
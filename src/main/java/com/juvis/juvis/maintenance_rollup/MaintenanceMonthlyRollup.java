@@ -0,0 +1,64 @@
+package com.juvis.juvis.maintenance_rollup;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 월별 운영 집계 (월 × 지점 × 분야)
+ * - requested: 최초 제출월(first_submitted_at) 기준 신규 접수 건수 (반려 후 재제출은 다시 세지 않음)
+ * - completed / 소요시간 / 금액: 완료월(work_completed_at) 기준
+ * - 소요시간 = 최초 제출 → 작업 완료 (분), 평균은 합/건수로 계산
+ */
+@Entity
+@Table(name = "maintenance_monthly_rollup")
+@IdClass(MaintenanceMonthlyRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MaintenanceMonthlyRollup {
+
+    @Id
+    @Column(name = "ym", length = 7)
+    private String ym; // yyyy-MM
+
+    @Id
+    @Column(name = "branch_id")
+    private Long branchId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 30)
+    private MaintenanceCategory category;
+
+    @Column(name = "requested_cnt", nullable = false)
+    private long requestedCnt;
+
+    @Column(name = "completed_cnt", nullable = false)
+    private long completedCnt;
+
+    @Column(name = "lead_time_cnt", nullable = false)
+    private long leadTimeCnt;
+
+    @Column(name = "lead_time_minutes_sum", nullable = false)
+    private long leadTimeMinutesSum;
+
+    @Column(name = "approved_estimate_sum", nullable = false, precision = 18, scale = 2)
+    private BigDecimal approvedEstimateSum;
+
+    @Column(name = "final_amount_sum", nullable = false, precision = 18, scale = 2)
+    private BigDecimal finalAmountSum;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String ym;
+        private Long branchId;
+        private MaintenanceCategory category;
+    }
+}
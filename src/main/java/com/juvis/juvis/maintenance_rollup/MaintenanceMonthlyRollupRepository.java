@@ -0,0 +1,105 @@
+package com.juvis.juvis.maintenance_rollup;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+
+public interface MaintenanceMonthlyRollupRepository
+        extends JpaRepository<MaintenanceMonthlyRollup, MaintenanceMonthlyRollup.Key> {
+
+    // ✅ 조회: ym 범위(PK 선두 컬럼) + 지점/분야 필터, 지점명은 branch join
+    @Query("""
+            select new com.juvis.juvis.maintenance_rollup.MaintenanceRollupResponse$MonthlyRowDTO(
+                r.ym, r.branchId, b.branchName, r.category,
+                r.requestedCnt, r.completedCnt, r.leadTimeCnt, r.leadTimeMinutesSum,
+                r.approvedEstimateSum, r.finalAmountSum)
+            from MaintenanceMonthlyRollup r
+            join Branch b on b.id = r.branchId
+            where r.ym >= :fromYm
+              and r.ym <= :toYm
+              and (:branchId is null or r.branchId = :branchId)
+              and (:category is null or r.category = :category)
+            order by r.ym asc, b.branchName asc, r.category asc
+            """)
+    List<MaintenanceRollupResponse.MonthlyRowDTO> findRows(
+            @Param("fromYm") String fromYm,
+            @Param("toYm") String toYm,
+            @Param("branchId") Long branchId,
+            @Param("category") MaintenanceCategory category);
+
+    // 원자적 누적 (없으면 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_monthly_rollup
+              (ym, branch_id, category, requested_cnt, completed_cnt, lead_time_cnt, lead_time_minutes_sum,
+               approved_estimate_sum, final_amount_sum)
+            VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9)
+            ON DUPLICATE KEY UPDATE
+              requested_cnt = requested_cnt + ?4,
+              completed_cnt = completed_cnt + ?5,
+              lead_time_cnt = lead_time_cnt + ?6,
+              lead_time_minutes_sum = lead_time_minutes_sum + ?7,
+              approved_estimate_sum = approved_estimate_sum + ?8,
+              final_amount_sum = final_amount_sum + ?9
+            """, nativeQuery = true)
+    void add(String ym, Long branchId, String category,
+            long requested, long completed, long leadTimeCnt, long leadTimeMinutes,
+            BigDecimal approvedEstimate, BigDecimal finalAmount);
+
+    // ===================== 재계산 (원본 maintenance_request 기준) =====================
+    // 접수월/소요시간 모두 first_submitted_at 기준 (누적 경로와 같은 정의)
+
+    @Modifying
+    @Query(value = "DELETE FROM maintenance_monthly_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_monthly_rollup (ym, branch_id, category, requested_cnt)
+            SELECT DATE_FORMAT(first_submitted_at, '%Y-%m'), branch_id, category, COUNT(*)
+            FROM maintenance_request
+            WHERE first_submitted_at IS NOT NULL
+            GROUP BY DATE_FORMAT(first_submitted_at, '%Y-%m'), branch_id, category
+            """, nativeQuery = true)
+    int rebuildRequested();
+
+    // 완료 건: 요청에 저장된 승인 견적 스냅샷(estimate_amount/final_amount) 사용
+    @Modifying
+    @Query(value = """
+            INSERT INTO maintenance_monthly_rollup
+              (ym, branch_id, category, completed_cnt, lead_time_cnt, lead_time_minutes_sum,
+               approved_estimate_sum, final_amount_sum)
+            SELECT * FROM (
+              SELECT c.ym, c.branch_id, c.category,
+                     COUNT(*) AS completed_cnt,
+                     COUNT(c.lead_minutes) AS lead_time_cnt,
+                     COALESCE(SUM(c.lead_minutes), 0) AS lead_time_minutes_sum,
+                     COALESCE(SUM(c.estimate_amount), 0) AS approved_estimate_sum,
+                     COALESCE(SUM(c.final_amount), 0) AS final_amount_sum
+              FROM (
+                SELECT DATE_FORMAT(m.work_completed_at, '%Y-%m') AS ym, m.branch_id, m.category,
+                       CASE WHEN m.first_submitted_at IS NOT NULL AND m.work_completed_at >= m.first_submitted_at
+                            THEN TIMESTAMPDIFF(MINUTE, m.first_submitted_at, m.work_completed_at) END AS lead_minutes,
+                       m.estimate_amount AS estimate_amount,
+                       m.final_amount AS final_amount
+                FROM maintenance_request m
+                WHERE m.status = 'COMPLETED'
+                  AND m.work_completed_at IS NOT NULL
+              ) c
+              GROUP BY c.ym, c.branch_id, c.category
+            ) agg
+            ON DUPLICATE KEY UPDATE
+              completed_cnt = agg.completed_cnt,
+              lead_time_cnt = agg.lead_time_cnt,
+              lead_time_minutes_sum = agg.lead_time_minutes_sum,
+              approved_estimate_sum = agg.approved_estimate_sum,
+              final_amount_sum = agg.final_amount_sum
+            """, nativeQuery = true)
+    int rebuildCompleted();
+}
@@ -0,0 +1,52 @@
+package com.juvis.juvis.maintenance_rollup;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.util.Resp;
+import com.juvis.juvis.user.LoginUser;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ops/analytics")
+public class MaintenanceRollupController {
+
+    private final MaintenanceRollupService maintenanceRollupService;
+
+    // ✅ 월별 집계 (from/to = yyyy-MM, 기본 최근 12개월)
+    @GetMapping("/monthly")
+    public ResponseEntity<?> monthly(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category) {
+        return Resp.ok(maintenanceRollupService.getMonthly(loginUser, from, to, branchId, category));
+    }
+
+    // ✅ 견적 비용 (승인월 × 지점 × 분야)
+    @GetMapping("/estimate-cost")
+    public ResponseEntity<?> estimateCost(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to,
+            @RequestParam(name = "branchId", required = false) Long branchId,
+            @RequestParam(name = "category", required = false) MaintenanceCategory category) {
+        return Resp.ok(maintenanceRollupService.getEstimateCost(loginUser, from, to, branchId, category));
+    }
+
+    // ✅ 집계 재계산 (어긋났을 때 수동 보정)
+    @PostMapping("/monthly/rebuild")
+    public ResponseEntity<?> rebuild(@AuthenticationPrincipal LoginUser loginUser) {
+        maintenanceRollupService.rebuild(loginUser);
+        return Resp.ok("재계산 완료");
+    }
+}
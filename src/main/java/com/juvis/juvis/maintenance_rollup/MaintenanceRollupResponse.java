@@ -0,0 +1,123 @@
+package com.juvis.juvis.maintenance_rollup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis.maintenance.MaintenanceRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class MaintenanceRollupResponse {
+
+    // 월 × 지점 × 분야 한 줄
+    @Getter
+    public static class MonthlyRowDTO {
+        private String yearMonth;
+        private Long branchId;
+        private String branchName;
+        private String category;
+        private String categoryName;
+
+        private long requestedCount;
+        private long completedCount;
+
+        // 소요시간(최초 제출→완료): 합계/건수는 여러 행을 다시 합칠 때 사용
+        private long leadTimeCount;
+        private long leadTimeMinutesSum;
+        private Long avgLeadTimeMinutes; // 측정 건 없으면 null
+
+        private BigDecimal approvedEstimateSum;
+        private BigDecimal finalAmountSum;
+
+        // ✅ JPQL projection용
+        public MonthlyRowDTO(
+                String ym,
+                Long branchId,
+                String branchName,
+                MaintenanceCategory category,
+                long requestedCnt,
+                long completedCnt,
+                long leadTimeCnt,
+                long leadTimeMinutesSum,
+                BigDecimal approvedEstimateSum,
+                BigDecimal finalAmountSum) {
+            this.yearMonth = ym;
+            this.branchId = branchId;
+            this.branchName = branchName;
+            this.category = category == null ? null : category.name();
+            this.categoryName = category == null ? null : category.getDisplayName();
+            this.requestedCount = requestedCnt;
+            this.completedCount = completedCnt;
+            this.leadTimeCount = leadTimeCnt;
+            this.leadTimeMinutesSum = leadTimeMinutesSum;
+            this.avgLeadTimeMinutes = leadTimeCnt == 0 ? null : leadTimeMinutesSum / leadTimeCnt;
+            this.approvedEstimateSum = approvedEstimateSum;
+            this.finalAmountSum = finalAmountSum;
+        }
+    }
+
+    // 월 합계 (조회된 행 기준)
+    @Getter
+    @AllArgsConstructor
+    public static class MonthTotalDTO {
+        private String yearMonth;
+        private long requestedCount;
+        private long completedCount;
+        private Long avgLeadTimeMinutes;
+        private BigDecimal approvedEstimateSum;
+        private BigDecimal finalAmountSum;
+    }
+
+    // 견적 비용 (승인월 × 지점 × 분야, 요청별 승인 견적 기준)
+    @Getter
+    public static class EstimateCostRowDTO {
+        private String yearMonth;
+        private Long branchId;
+        private String branchName;
+        private String category;
+        private String categoryName;
+
+        private long approvedCount;
+        private BigDecimal estimateSum;
+        private BigDecimal estimateAvg;
+
+        private long finalCount; // 최종견적가 입력된 건수
+        private BigDecimal finalSum;
+
+        public EstimateCostRowDTO(MaintenanceRepository.CostRow r) {
+            this.yearMonth = YearMonth.of(r.year(), r.month()).toString();
+            this.branchId = r.branchId();
+            this.branchName = r.branchName();
+            this.category = r.category() == null ? null : r.category().name();
+            this.categoryName = r.category() == null ? null : r.category().getDisplayName();
+            this.approvedCount = r.approvedCount() == null ? 0 : r.approvedCount();
+            this.estimateSum = r.estimateSum() == null ? BigDecimal.ZERO : r.estimateSum();
+            this.estimateAvg = r.estimateAvg() == null
+                    ? null
+                    : BigDecimal.valueOf(r.estimateAvg()).setScale(0, RoundingMode.HALF_UP);
+            this.finalCount = r.finalCount() == null ? 0 : r.finalCount();
+            this.finalSum = r.finalSum() == null ? BigDecimal.ZERO : r.finalSum();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EstimateCostDTO {
+        private String from;
+        private String to;
+        private List<EstimateCostRowDTO> rows;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MonthlyDTO {
+        private String from;
+        private String to;
+        private List<MonthTotalDTO> months;
+        private List<MonthlyRowDTO> rows;
+    }
+}
@@ -0,0 +1,206 @@
+package com.juvis.juvis.maintenance_rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+import com.juvis.juvis._core.error.ex.ExceptionApi403;
+import com.juvis.juvis.maintenance.Maintenance;
+import com.juvis.juvis.maintenance.MaintenanceRepository;
+import com.juvis.juvis.user.LoginUser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 운영 집계 (maintenance_monthly_rollup)
+ * - 제출/완료 시 호출한 트랜잭션 안에서 누적 → 롤백되면 같이 롤백
+ * - 리포트는 집계 행(월 × 지점 × 분야)만 읽고 maintenance_request는 다시 스캔하지 않음
+ * - 어긋남(직접 DB 수정 등)은 rebuild()로 원본 기준 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MaintenanceRollupService {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int MAX_MONTHS = 36;
+
+    private final MaintenanceMonthlyRollupRepository rollupRepository;
+    private final MaintenanceRepository maintenanceRepository;
+
+    // ========================= 누적 =========================
+
+    // 신규 저장 직후 (바로 제출된 요청만 접수 건수에 포함)
+    @Transactional
+    public void onCreated(Maintenance m) {
+        if (m.getStatus() != null && m.getStatus() != MaintenanceStatus.DRAFT)
+            addRequested(m);
+    }
+
+    // 상태 전이: 임시저장 → 제출(REQUESTED / HQ 제출 시 ESTIMATING)만 접수로 집계 (반려 후 재제출은 제외)
+    // - 월은 firstSubmittedAt 기준 (재제출로 submittedAt이 바뀌어도 rebuild와 같은 달)
+    @Transactional
+    public void onTransition(Maintenance m, MaintenanceStatus before, MaintenanceStatus next) {
+        if (before == MaintenanceStatus.DRAFT && next != MaintenanceStatus.DRAFT)
+            addRequested(m);
+    }
+
+    // 작업 완료: 완료월 기준 건수/소요시간/승인 견적가/최종견적가 (요청에 저장된 승인 견적 스냅샷 사용)
+    @Transactional
+    public void onCompleted(Maintenance m) {
+        LocalDateTime completedAt = m.getWorkCompletedAt() != null ? m.getWorkCompletedAt() : LocalDateTime.now();
+
+        long leadTimeCnt = 0;
+        long leadTimeMinutes = 0;
+        // 소요시간은 최초 제출부터 (반려/재제출 기간 포함)
+        LocalDateTime firstSubmittedAt = m.getFirstSubmittedAt();
+        if (firstSubmittedAt != null && !completedAt.isBefore(firstSubmittedAt)) {
+            leadTimeCnt = 1;
+            leadTimeMinutes = ChronoUnit.MINUTES.between(firstSubmittedAt, completedAt);
+        }
+
+        BigDecimal estimate = m.getEstimateAmount() == null ? BigDecimal.ZERO : m.getEstimateAmount();
+        BigDecimal finalAmount = m.getFinalAmount() == null ? BigDecimal.ZERO : m.getFinalAmount();
+
+        rollupRepository.add(
+                YearMonth.from(completedAt).toString(), m.getBranch().getId(), m.getCategory().name(),
+                0, 1, leadTimeCnt, leadTimeMinutes, estimate, finalAmount);
+    }
+
+    private void addRequested(Maintenance m) {
+        LocalDateTime submittedAt = m.getFirstSubmittedAt() != null ? m.getFirstSubmittedAt() : LocalDateTime.now();
+        rollupRepository.add(
+                YearMonth.from(submittedAt).toString(), m.getBranch().getId(), m.getCategory().name(),
+                1, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    // ========================= 조회 =========================
+
+    public MaintenanceRollupResponse.MonthlyDTO getMonthly(
+            LoginUser loginUser,
+            String from,
+            String to,
+            Long branchId,
+            MaintenanceCategory category) {
+
+        if (loginUser == null || loginUser.role() != UserRole.HQ) {
+            throw new ExceptionApi403("HQ 권한이 필요합니다.");
+        }
+
+        YearMonth[] range = monthRange(from, to);
+        String fromYm = range[0].toString();
+        String toYm = range[1].toString();
+
+        List<MaintenanceRollupResponse.MonthlyRowDTO> rows = rollupRepository.findRows(
+                fromYm, toYm, branchId, category);
+
+        return new MaintenanceRollupResponse.MonthlyDTO(fromYm, toYm, monthTotals(rows), rows);
+    }
+
+    // 견적 비용 리포트: 승인월 기준, 집계는 DB(SUM/AVG)에서
+    public MaintenanceRollupResponse.EstimateCostDTO getEstimateCost(
+            LoginUser loginUser,
+            String from,
+            String to,
+            Long branchId,
+            MaintenanceCategory category) {
+
+        if (loginUser == null || loginUser.role() != UserRole.HQ) {
+            throw new ExceptionApi403("HQ 권한이 필요합니다.");
+        }
+
+        YearMonth[] range = monthRange(from, to);
+
+        List<MaintenanceRollupResponse.EstimateCostRowDTO> rows = maintenanceRepository.aggregateApprovedCost(
+                range[0].atDay(1).atStartOfDay(),
+                range[1].plusMonths(1).atDay(1).atStartOfDay(),
+                branchId,
+                category)
+                .stream()
+                .map(MaintenanceRollupResponse.EstimateCostRowDTO::new)
+                .toList();
+
+        return new MaintenanceRollupResponse.EstimateCostDTO(range[0].toString(), range[1].toString(), rows);
+    }
+
+    private List<MaintenanceRollupResponse.MonthTotalDTO> monthTotals(List<MaintenanceRollupResponse.MonthlyRowDTO> rows) {
+        Map<String, List<MaintenanceRollupResponse.MonthlyRowDTO>> byMonth = new LinkedHashMap<>();
+        for (MaintenanceRollupResponse.MonthlyRowDTO r : rows) {
+            byMonth.computeIfAbsent(r.getYearMonth(), k -> new ArrayList<>()).add(r);
+        }
+
+        List<MaintenanceRollupResponse.MonthTotalDTO> totals = new ArrayList<>();
+        byMonth.forEach((ym, list) -> {
+            long requested = 0, completed = 0, leadCnt = 0, leadSum = 0;
+            BigDecimal estimate = BigDecimal.ZERO, finalAmount = BigDecimal.ZERO;
+            for (MaintenanceRollupResponse.MonthlyRowDTO r : list) {
+                requested += r.getRequestedCount();
+                completed += r.getCompletedCount();
+                leadCnt += r.getLeadTimeCount();
+                leadSum += r.getLeadTimeMinutesSum();
+                estimate = estimate.add(r.getApprovedEstimateSum());
+                finalAmount = finalAmount.add(r.getFinalAmountSum());
+            }
+            totals.add(new MaintenanceRollupResponse.MonthTotalDTO(
+                    ym, requested, completed, leadCnt == 0 ? null : leadSum / leadCnt, estimate, finalAmount));
+        });
+        return totals;
+    }
+
+    // from/to(yyyy-MM) 기본값: 최근 12개월, 최대 MAX_MONTHS
+    private YearMonth[] monthRange(String from, String to) {
+        YearMonth toYm = (to == null || to.isBlank()) ? YearMonth.now(SEOUL) : parseYm(to);
+        YearMonth fromYm = (from == null || from.isBlank()) ? toYm.minusMonths(11) : parseYm(from);
+
+        if (fromYm.isAfter(toYm)) {
+            throw new ExceptionApi400("from은 to보다 이후일 수 없습니다.");
+        }
+        if (ChronoUnit.MONTHS.between(fromYm, toYm) >= MAX_MONTHS) {
+            throw new ExceptionApi400("조회 기간은 최대 " + MAX_MONTHS + "개월입니다.");
+        }
+        return new YearMonth[] { fromYm, toYm };
+    }
+
+    private YearMonth parseYm(String s) {
+        try {
+            return YearMonth.parse(s.trim());
+        } catch (DateTimeParseException e) {
+            throw new ExceptionApi400("yyyy-MM 형식이어야 합니다: " + s);
+        }
+    }
+
+    // ========================= 재계산 =========================
+
+    // 원본(maintenance_request + 승인 attempt) 기준 전체 재계산 (한 트랜잭션)
+    @Transactional
+    public void rebuild(LoginUser loginUser) {
+        if (loginUser == null || loginUser.role() != UserRole.HQ) {
+            throw new ExceptionApi403("HQ 권한이 필요합니다.");
+        }
+
+        long start = System.currentTimeMillis();
+
+        rollupRepository.deleteAllRows();
+        int requested = rollupRepository.rebuildRequested();
+        int completed = rollupRepository.rebuildCompleted();
+
+        log.info("[ROLLUP] rebuild done rows(requested={}, completed={}) took={}ms",
+                requested, completed, System.currentTimeMillis() - start);
+    }
+}
@@ -31,9 +31,10 @@ public class MaintenanceVendorController {
     @GetMapping
     public ResponseEntity<?> list(
             @AuthenticationPrincipal LoginUser loginUser,
-            @RequestParam(value = "status", required = false) String status) {
-        System.out.println("VENDOR LIST status param = " + status);
-        return Resp.ok(maintenanceVendorService.getList(loginUser, status));
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return Resp.ok(maintenanceVendorService.getList(loginUser, status, page, size));
     }
 
     @GetMapping("/{id}")
@@ -1,11 +1,12 @@
 package com.juvis.juvis.maintenance_vendor;
 
 import com.juvis.juvis._core.enums.MaintenanceStatus;
-import com.juvis.juvis.maintenance.Maintenance;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import org.springframework.data.domain.Slice;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,26 +27,23 @@ public class MaintenanceVendorResponse {
     public static class ListItemDTO {
         private Long id;
         private String title;
-        private String description; 
+        private String description; // 목록용 미리보기 (앞 200자)
         private MaintenanceStatus status;
         private String branchName;
         private String requesterName;
         private LocalDateTime createdAt;
-
-        public ListItemDTO(Maintenance m) {
-            this.id = m.getId();
-            this.title = m.getTitle();
-            this.description = m.getDescription(); 
-            this.status = m.getStatus();
-            this.branchName = m.getBranch() != null ? m.getBranch().getBranchName() : null;
-            this.requesterName = m.getRequester() != null ? m.getRequester().getName() : null;
-            this.createdAt = m.getCreatedAt();
-        }
     }
 
     @Getter
     @AllArgsConstructor
     public static class ListDTO {
         private List<ListItemDTO> items;
+        private int page;
+        private int size;
+        private boolean hasNext;
+
+        public ListDTO(Slice<ListItemDTO> slice) {
+            this(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+        }
     }
 }
\ No newline at end of file
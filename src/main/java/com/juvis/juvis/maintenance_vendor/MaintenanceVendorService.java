@@ -8,24 +8,32 @@ import com.juvis.juvis.maintenance.Maintenance;
 import com.juvis.juvis.maintenance.MaintenanceRepository;
 import com.juvis.juvis.maintenance.MaintenanceResponse;
 import com.juvis.juvis.maintenance.MaintenanceService;
+import com.juvis.juvis.maintenance_counter.MaintenanceCounterService;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.MaintenancePhotoRepository;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.PresignService;
 import com.juvis.juvis.user.LoginUser;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MaintenanceVendorService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MaintenanceRepository maintenanceRepository;
     private final MaintenanceService maintenanceService;
+    private final MaintenanceCounterService maintenanceCounterService;
 
     private void requireVendor(LoginUser loginUser) {
         if (loginUser == null || loginUser.role() != UserRole.VENDOR) {
@@ -43,42 +51,39 @@ public class MaintenanceVendorService {
 
     public MaintenanceVendorResponse.SummaryDTO getSummary(LoginUser loginUser) {
         requireVendor(loginUser);
-        Long vendorId = Long.valueOf(loginUser.id());
-
-        long estimating = maintenanceRepository.countByVendor_IdAndStatus(
-                vendorId, MaintenanceStatus.ESTIMATING);
-        long hq2Rejected = maintenanceRepository.countByVendor_IdAndStatus(vendorId, MaintenanceStatus.HQ2_REJECTED);
-        long approvalPending = maintenanceRepository.countByVendor_IdAndStatus(
-                vendorId, MaintenanceStatus.APPROVAL_PENDING);
-        long inProgress = maintenanceRepository.countByVendor_IdAndStatus(
-                vendorId, MaintenanceStatus.IN_PROGRESS);
-        long completed = maintenanceRepository.countByVendor_IdAndStatus(
-                vendorId, MaintenanceStatus.COMPLETED);
+
+        // ✅ 업체별 카운터에서 한 번에 조회
+        Map<MaintenanceStatus, Long> c = maintenanceCounterService.countsForVendor(loginUser.id());
+
         return new MaintenanceVendorResponse.SummaryDTO(
-                estimating, hq2Rejected, approvalPending, inProgress, completed);
+                c.get(MaintenanceStatus.ESTIMATING),
+                c.get(MaintenanceStatus.HQ2_REJECTED),
+                c.get(MaintenanceStatus.APPROVAL_PENDING),
+                c.get(MaintenanceStatus.IN_PROGRESS),
+                c.get(MaintenanceStatus.COMPLETED));
     }
 
-    public MaintenanceVendorResponse.ListDTO getList(LoginUser loginUser, String status) {
+    public MaintenanceVendorResponse.ListDTO getList(LoginUser loginUser, String status, int page, int size) {
         requireVendor(loginUser);
-        Long vendorId = Long.valueOf(loginUser.id());
-
-        List<Maintenance> list;
+        PageRequest pageable = pageRequest(page, size);
 
-        if (status == null || status.isBlank()) {
-            list = maintenanceRepository.findByVendor_IdAndStatusInOrderByCreatedAtDesc(
-                    vendorId,
-                    VENDOR_VISIBLE.stream().toList());
-        } else {
+        Collection<MaintenanceStatus> statuses = VENDOR_VISIBLE;
+        if (status != null && !status.isBlank()) {
             MaintenanceStatus s = MaintenanceStatus.valueOf(status.trim().toUpperCase());
             if (!VENDOR_VISIBLE.contains(s)) {
-                return new MaintenanceVendorResponse.ListDTO(List.of());
+                return new MaintenanceVendorResponse.ListDTO(List.of(), pageable.getPageNumber(), pageable.getPageSize(), false);
             }
-
-            list = maintenanceRepository.findByVendor_IdAndStatusOrderByCreatedAtDesc(vendorId, s);
+            statuses = EnumSet.of(s);
         }
 
+        // ✅ 목록 컬럼만 페이지 단위로 조회 (엔티티 로딩 없음)
         return new MaintenanceVendorResponse.ListDTO(
-                list.stream().map(MaintenanceVendorResponse.ListItemDTO::new).toList());
+                maintenanceRepository.findVendorListItems(loginUser.id(), statuses, pageable));
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        int fixedSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return PageRequest.of(Math.max(page, 0), fixedSize);
     }
 
     @Transactional(readOnly = true)
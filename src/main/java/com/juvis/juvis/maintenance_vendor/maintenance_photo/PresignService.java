@@ -6,10 +6,14 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.Presign.PresignRequest;
 import com.juvis.juvis.maintenance_vendor.maintenance_photo.Presign.PresignResponse;
 import com.juvis.juvis.storage.StorageProps;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -18,12 +22,38 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequ
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Service
-@RequiredArgsConstructor
 public class PresignService {
 
     private final S3Presigner presigner;
     private final StorageProps props;
 
+    /**
+     * fileKey → presigned GET URL 캐시
+     * - 서명 후 (ttl - minRemaining) 이 지나면 만료 → 다음 조회 때 재서명
+     *   → 캐시에서 나가는 URL은 항상 minRemaining 이상 유효기간이 남아 있음
+     * - maximumSize 초과 시 오래 안 쓴 key부터 제거
+     * - 적중/미스 통계는 actuator metrics(cache.*, cache=s3.presigned-get)로 노출
+     */
+    private final Cache<String, String> getUrlCache;
+
+    public PresignService(S3Presigner presigner, StorageProps props, MeterRegistry meterRegistry) {
+        this.presigner = presigner;
+        this.props = props;
+
+        Duration reuseFor = props.getGetUrlTtl().minus(props.getGetUrlMinRemaining());
+        if (reuseFor.isNegative() || reuseFor.isZero()) {
+            throw new IllegalStateException("app.s3.get-url-ttl은 get-url-min-remaining보다 커야 합니다.");
+        }
+
+        this.getUrlCache = Caffeine.newBuilder()
+                .expireAfterWrite(reuseFor)
+                .maximumSize(props.getGetUrlCacheMaxSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, getUrlCache, "s3.presigned-get");
+    }
+
     public PresignResponse presignPut(PresignRequest req) {
         String ext = safeExt(req.getFileName());
         String key = props.getPrefix() + "/" + LocalDate.now() + "/" + UUID.randomUUID() + "." + ext;
@@ -61,13 +91,17 @@ public class PresignService {
             return null;
         }
 
+        return getUrlCache.get(fileKey, this::signGetUrl);
+    }
+
+    private String signGetUrl(String fileKey) {
         GetObjectRequest gor = GetObjectRequest.builder()
                 .bucket(props.getBucket())
                 .key(fileKey)
                 .build();
 
         GetObjectPresignRequest presignReq = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(30))
+                .signatureDuration(props.getGetUrlTtl())
                 .getObjectRequest(gor)
                 .build();
 
@@ -1,52 +1,260 @@
 package com.juvis.juvis.notification;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.juvis.juvis.user_device.UserDeviceService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import com.google.firebase.messaging.BatchResponse;
 
+/**
+ * FCM multicast 발송
+ * - 토큰은 최대 500개(FCM 한도) 청크로 나눠 전용 executor에서 병렬 발송
+ * - 일시 오류(UNAVAILABLE/INTERNAL/QUOTA_EXCEEDED 등)는 청크/토큰 단위로 지수 backoff 재시도
+ * - UNREGISTERED / INVALID_ARGUMENT 토큰은 발송 후 user_device에서 한 번에 비활성화
+ * - 메트릭(actuator metrics): push.fcm.tokens{result=success|failure|dead}, push.fcm.chunk(발송 시간),
+ *   push.fcm.retries, push.fcm.tokens.deactivated → 처리량/실패율
+ */
 @Slf4j
 @Service
-public class FcmPushService {
+@ConditionalOnProperty(prefix = "firebase", name = "enabled", havingValue = "true")
+public class FcmPushService implements PushSender {
+
+    private static final int FCM_MAX_TOKENS = 500;
+
+    private static final Set<MessagingErrorCode> DEAD_TOKEN_CODES = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.INVALID_ARGUMENT);
+
+    private static final Set<MessagingErrorCode> TRANSIENT_CODES = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private static final Set<ErrorCode> TRANSIENT_PLATFORM_CODES = EnumSet.of(
+            ErrorCode.UNAVAILABLE,
+            ErrorCode.INTERNAL,
+            ErrorCode.DEADLINE_EXCEEDED,
+            ErrorCode.RESOURCE_EXHAUSTED);
+
+    private final UserDeviceService userDeviceService;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final int maxRetries;
+    private final long baseBackoffMillis;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter deadCounter;
+    private final Counter retryCounter;
+    private final Counter deactivatedCounter;
+    private final Timer chunkTimer;
+
+    public FcmPushService(
+            UserDeviceService userDeviceService,
+            MeterRegistry meterRegistry,
+            @Value("${push.fcm.chunk-size:500}") int chunkSize,
+            @Value("${push.fcm.parallelism:4}") int parallelism,
+            @Value("${push.fcm.queue-capacity:100}") int queueCapacity,
+            @Value("${push.fcm.max-retries:3}") int maxRetries,
+            @Value("${push.fcm.base-backoff-ms:200}") long baseBackoffMillis) {
+        this.userDeviceService = userDeviceService;
+        this.chunkSize = Math.min(Math.max(chunkSize, 1), FCM_MAX_TOKENS);
+        this.maxRetries = maxRetries;
+        this.baseBackoffMillis = baseBackoffMillis;
+
+        // ✅ 청크 발송 전용 (대기열이 차면 호출 스레드(outbox dispatcher)가 직접 발송 → 자연스러운 backpressure)
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(parallelism);
+        this.executor.setMaxPoolSize(parallelism);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("fcm-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.initialize();
+
+        this.successCounter = meterRegistry.counter("push.fcm.tokens", "result", "success");
+        this.failureCounter = meterRegistry.counter("push.fcm.tokens", "result", "failure");
+        this.deadCounter = meterRegistry.counter("push.fcm.tokens", "result", "dead");
+        this.retryCounter = meterRegistry.counter("push.fcm.retries");
+        this.deactivatedCounter = meterRegistry.counter("push.fcm.tokens.deactivated");
+        this.chunkTimer = meterRegistry.timer("push.fcm.chunk");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
 
-    public void sendToTokens(List<String> tokens, String title, String body, Map<String,String> data) {
+    // ✅ 전체 청크가 실패(네트워크/인증 등)하면 예외로 던져서 outbox가 재시도
+    // 일부 청크만 실패하면 재발송 시 중복 알림이 가므로 로그/메트릭만 남김
+    @Override
+    public void send(List<String> tokens, String title, String body, Map<String, String> data) throws Exception {
         if (tokens == null || tokens.isEmpty()) {
             log.info("📭 FCM skip: tokens empty");
             return;
         }
 
-        var builder = MulticastMessage.builder()
-                .setNotification(Notification.builder().setTitle(title).setBody(body).build())
-                .addAllTokens(tokens);
+        List<String> distinct = tokens.stream().distinct().toList();
 
-        if (data != null && !data.isEmpty()) builder.putAllData(data);
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<String> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk, title, body, data), executor));
+        }
 
-        try {
-            BatchResponse res = FirebaseMessaging.getInstance().sendEachForMulticast(builder.build());
+        int success = 0;
+        int failed = 0;
+        List<String> dead = new ArrayList<>();
+        Exception firstError = null;
+
+        for (CompletableFuture<ChunkResult> f : futures) {
+            ChunkResult r = f.join();
+            success += r.success;
+            failed += r.failed;
+            dead.addAll(r.dead);
+            if (firstError == null)
+                firstError = r.error;
+        }
 
-            log.info("✅ FCM sent: success={} failure={} total={}",
-                    res.getSuccessCount(), res.getFailureCount(), tokens.size());
+        successCounter.increment(success);
+        failureCounter.increment(failed);
+        deadCounter.increment(dead.size());
+
+        if (!dead.isEmpty()) {
+            int deactivated = userDeviceService.deactivateTokens(dead);
+            deactivatedCounter.increment(deactivated);
+            log.info("🧹 FCM dead tokens deactivated={} (reported={})", deactivated, dead.size());
+        }
+
+        log.info("✅ FCM sent: success={} failure={} dead={} total={} chunks={}",
+                success, failed, dead.size(), distinct.size(), futures.size());
+
+        if (success == 0 && failed > 0) {
+            throw firstError != null ? firstError : new IllegalStateException("FCM 발송 실패 (전체 토큰)");
+        }
+    }
 
-            if (res.getFailureCount() > 0) {
-                for (int i = 0; i < res.getResponses().size(); i++) {
-                    var r = res.getResponses().get(i);
-                    if (!r.isSuccessful()) {
-                        log.warn("❌ FCM fail token[{}]={} error={}",
-                                i, tokens.get(i), r.getException().getMessage());
+    // 청크 하나 발송: 호출 자체의 일시 오류는 청크 전체, 토큰별 일시 오류는 해당 토큰만 재시도
+    private ChunkResult sendChunk(List<String> tokens, String title, String body, Map<String, String> data) {
+        ChunkResult result = new ChunkResult();
+        List<String> pending = tokens;
+        int attempt = 0;
+
+        while (true) {
+            List<String> batch = pending;
+            try {
+                BatchResponse res = chunkTimer.recordCallable(
+                        () -> FirebaseMessaging.getInstance().sendEachForMulticast(message(batch, title, body, data)));
+
+                List<String> retry = new ArrayList<>();
+                List<SendResponse> responses = res.getResponses();
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse r = responses.get(i);
+                    if (r.isSuccessful()) {
+                        result.success++;
+                        continue;
+                    }
+
+                    FirebaseMessagingException e = r.getException();
+                    String token = batch.get(i);
+                    if (DEAD_TOKEN_CODES.contains(e.getMessagingErrorCode())) {
+                        result.dead.add(token);
+                    } else if (isTransient(e) && attempt < maxRetries) {
+                        retry.add(token);
+                    } else {
+                        result.failed++;
+                        log.warn("❌ FCM fail token={} code={} error={}",
+                                token, e.getMessagingErrorCode(), e.getMessage());
                     }
                 }
+
+                if (retry.isEmpty())
+                    return result;
+                pending = retry;
+
+            } catch (FirebaseMessagingException e) {
+                if (!isTransient(e) || attempt >= maxRetries) {
+                    log.warn("❌ FCM chunk failed tokens={} attempt={} error={}", pending.size(), attempt, e.toString());
+                    result.failed += pending.size();
+                    result.error = e;
+                    return result;
+                }
+            } catch (Exception e) {
+                log.warn("❌ FCM chunk failed tokens={} error={}", pending.size(), e.toString());
+                result.failed += pending.size();
+                result.error = e;
+                return result;
+            }
+
+            attempt++;
+            retryCounter.increment();
+            if (!sleep(backoffMillis(attempt))) {
+                result.failed += pending.size();
+                return result;
             }
-        } catch (Exception e) {
-            log.error("❌ FCM send exception", e);
         }
     }
-}
 
+    private MulticastMessage message(List<String> tokens, String title, String body, Map<String, String> data) {
+        var builder = MulticastMessage.builder()
+                .setNotification(Notification.builder().setTitle(title).setBody(body).build())
+                .addAllTokens(tokens);
+
+        if (data != null && !data.isEmpty())
+            builder.putAllData(data);
+
+        return builder.build();
+    }
+
+    private boolean isTransient(FirebaseMessagingException e) {
+        if (e.getMessagingErrorCode() != null)
+            return TRANSIENT_CODES.contains(e.getMessagingErrorCode());
+        return TRANSIENT_PLATFORM_CODES.contains(e.getErrorCode());
+    }
+
+    // base * 2^(attempt-1) + jitter(0~base)
+    private long backoffMillis(int attempt) {
+        long exp = baseBackoffMillis << Math.min(attempt - 1, 10);
+        return exp + ThreadLocalRandom.current().nextLong(baseBackoffMillis + 1);
+    }
 
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class ChunkResult {
+        int success;
+        int failed;
+        final List<String> dead = new ArrayList<>();
+        Exception error;
+    }
+}
@@ -0,0 +1,39 @@
+package com.juvis.juvis.notification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FCM 대체 구현 (firebase.enabled=false 또는 미설정)
+ * - 실제 발송 없이 로그 + 메모리에 기록 → 테스트에서 sent()로 검증
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "firebase", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class LocalPushSender implements PushSender {
+
+    public record SentPush(List<String> tokens, String title, String body, Map<String, String> data) {
+    }
+
+    private final List<SentPush> sent = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(List<String> tokens, String title, String body, Map<String, String> data) {
+        log.info("📨 [LOCAL] push tokens={} title={} data={}", tokens.size(), title, data);
+        sent.add(new SentPush(List.copyOf(tokens), title, body, data));
+    }
+
+    public List<SentPush> sent() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+    }
+}
@@ -3,6 +3,7 @@ package com.juvis.juvis.notification;
 import java.time.LocalDateTime;
 
 import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
 import com.juvis.juvis.maintenance.Maintenance;
 import com.juvis.juvis.user.User;
 
@@ -71,9 +72,24 @@ public class Notification {
             Maintenance m,
             MaintenanceStatus status) {
 
+        return Notification.builder()
+                .user(user)
+                .maintenance(m)
+                .status(status)
+                .eventType(NotificationEventType.STATUS_CHANGED)
+                .attemptNo(0) // ✅ STATUS_CHANGED는 항상 0
+                .message(statusChangedMessage(user.getRole(), status))
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // ✅ 역할/상태별 문구 (엔티티 없이 일괄 저장할 때도 동일 문구 사용)
+    public static String statusChangedMessage(UserRole role, MaintenanceStatus status) {
+
         String msg;
 
-        switch (user.getRole()) {
+        switch (role) {
             case VENDOR -> {
                 if (status == MaintenanceStatus.ESTIMATING) {
                     msg = "새 견적 요청이 도착했습니다. 견적을 제출해주세요.";
@@ -109,16 +125,11 @@ public class Notification {
             default -> msg = "요청 상태가 변경되었습니다.";
         }
 
-        return Notification.builder()
-                .user(user)
-                .maintenance(m)
-                .status(status)
-                .eventType(NotificationEventType.STATUS_CHANGED)
-                .attemptNo(0) // ✅ STATUS_CHANGED는 항상 0
-                .message(msg)
-                .isRead(false)
-                .createdAt(LocalDateTime.now())
-                .build();
+        return msg;
+    }
+
+    public static String estimateUpdatedMessage(Maintenance m) {
+        return "'" + m.getTitle() + "' 견적이 수정되었습니다.";
     }
 
     // =====================================================
@@ -134,7 +145,7 @@ public class Notification {
                 .status(m.getStatus())
                 .eventType(NotificationEventType.ESTIMATE_UPDATED)
                 .attemptNo(attemptNo) // ✅ 매번 다른 값 → dedupe 통과
-                .message("'" + m.getTitle() + "' 견적이 수정되었습니다.")
+                .message(estimateUpdatedMessage(m))
                 .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -0,0 +1,56 @@
+package com.juvis.juvis.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 일괄 저장 (JDBC batch)
+ * - INSERT IGNORE: uq_notif_dedupe 충돌 행은 조용히 건너뜀 (예외/롤백 마킹 없음)
+ * - 호출한 트랜잭션의 커넥션을 그대로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO notification
+                (user_id, maintenance_id, status, event_type, attempt_no, message, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(
+            Integer userId,
+            Long maintenanceId,
+            MaintenanceStatus status,
+            NotificationEventType eventType,
+            int attemptNo,
+            String message) {
+    }
+
+    public void insertIgnore(List<Row> rows) {
+        if (rows == null || rows.isEmpty())
+            return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows, rows.size(), (ps, r) -> {
+            ps.setInt(1, r.userId());
+            ps.setLong(2, r.maintenanceId());
+            ps.setString(3, r.status().name());
+            ps.setString(4, r.eventType().name());
+            ps.setInt(5, r.attemptNo());
+            ps.setString(6, r.message());
+            ps.setTimestamp(7, now);
+        });
+    }
+}
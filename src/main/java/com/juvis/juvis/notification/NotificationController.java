@@ -1,12 +1,16 @@
 package com.juvis.juvis.notification;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.juvis.juvis._core.util.Resp;
 import com.juvis.juvis.user.LoginUser;
@@ -20,17 +24,37 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @GetMapping
     public ResponseEntity<?> list(@AuthenticationPrincipal LoginUser user) {
         return Resp.ok(notificationService.list(user));
     }
 
+    // ✅ 알림 이력 무한스크롤 (cursor 기반, 전체 count 없음)
+    // - cursor는 이전 응답의 nextCursor 그대로 전달
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scroll(@AuthenticationPrincipal LoginUser user,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        return Resp.ok(notificationService.scroll(user, cursor, size));
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<?> unreadCount(@AuthenticationPrincipal LoginUser user) {
         return Resp.ok(notificationService.unreadCount(user));
     }
 
+    // ✅ SSE: event "notification"(ItemDTO) / "unread-count"(숫자), 주기적 heartbeat 주석
+    // 연결이 끊기면 클라이언트가 재접속 (재접속 직후 unread-count 1회 수신)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal LoginUser user) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no") // nginx 등 프록시 버퍼링 끔
+                .body(notificationStreamService.subscribe(user));
+    }
+
     @PostMapping("/{id}/read")
     public ResponseEntity<?> read(@AuthenticationPrincipal LoginUser user,
             @PathVariable("id") Long id) {
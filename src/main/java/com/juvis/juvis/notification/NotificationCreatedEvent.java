@@ -0,0 +1,14 @@
+package com.juvis.juvis.notification;
+
+import java.util.Collection;
+
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+
+// 알림 저장 후 발행 → 커밋되면 SSE로 새 알림 + 미읽음 수 전달
+public record NotificationCreatedEvent(
+        Long maintenanceId,
+        MaintenanceStatus status,
+        NotificationEventType eventType,
+        int attemptNo,
+        Collection<Integer> userIds) {
+}
@@ -0,0 +1,40 @@
+package com.juvis.juvis.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.juvis.juvis._core.error.ex.ExceptionApi400;
+
+/**
+ * 알림 이력 keyset 페이징용 커서 (클라이언트에는 불투명 토큰으로만 전달)
+ * - 정렬: (createdAt desc, id desc) → idx_notif_user_created(user_id, created_at [, id]) 그대로 사용
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+    public static NotificationCursor of(NotificationResponse.ItemDTO last) {
+        return new NotificationCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static NotificationCursor decode(String token) {
+        if (token == null || token.isBlank())
+            return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("parts=" + parts.length);
+
+            return new NotificationCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (Exception e) {
+            throw new ExceptionApi400("잘못된 cursor 값입니다.");
+        }
+    }
+}
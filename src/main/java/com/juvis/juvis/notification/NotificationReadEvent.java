@@ -0,0 +1,5 @@
+package com.juvis.juvis.notification;
+
+// 읽음/모두 읽음 후 발행 → 커밋되면 해당 사용자 SSE로 미읽음 수 전달
+public record NotificationReadEvent(Integer userId) {
+}
@@ -0,0 +1,28 @@
+package com.juvis.juvis.notification;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 알림 읽음 워터마크
+ * - id <= lastReadId 인 알림은 모두 읽음 (모두 읽음 처리 = 이 행만 갱신)
+ * - 워터마크 이후 알림은 notification.is_read 개별 플래그로 판단
+ */
+@Entity
+@Table(name = "notification_read_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadState {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "last_read_id", nullable = false)
+    private long lastReadId;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.juvis.juvis.notification;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationReadStateRepository extends JpaRepository<NotificationReadState, Integer> {
+
+    @Query("select s.lastReadId from NotificationReadState s where s.userId = :userId")
+    Optional<Long> findLastReadId(@Param("userId") Integer userId);
+
+    // 워터마크는 앞으로만 이동 (없으면 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read_state (user_id, last_read_id)
+            VALUES (?1, ?2)
+            ON DUPLICATE KEY UPDATE last_read_id = GREATEST(last_read_id, VALUES(last_read_id))
+            """, nativeQuery = true)
+    void advance(Integer userId, long lastReadId);
+}
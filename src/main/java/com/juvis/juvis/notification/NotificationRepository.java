@@ -1,8 +1,10 @@
 package com.juvis.juvis.notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
@@ -12,9 +14,83 @@ import com.juvis.juvis.user.User;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  List<Notification> findTop50ByUserOrderByCreatedAtDesc(User user);
+  // ✅ 목록 컬럼만 (maintenance는 join 1번, 엔티티/지연 로딩 없음)
+  record ItemRow(
+      Long id,
+      Long maintenanceId,
+      String title,
+      MaintenanceStatus status,
+      NotificationEventType eventType,
+      String message,
+      Boolean read,
+      LocalDateTime createdAt) {
+  }
+
+  // ✅ 알림 이력 keyset 스크롤 (createdAt desc, id desc), cursorId가 null이면 첫 페이지
+  // - idx_notif_user_created(user_id, created_at) + PK 순으로 범위 스캔
+  @Query("""
+          select new com.juvis.juvis.notification.NotificationRepository$ItemRow(
+              n.id, m.id, m.title, n.status, n.eventType, n.message, n.isRead, n.createdAt)
+            from Notification n
+            join n.maintenance m
+           where n.user.id = :userId
+             and (:cursorId is null
+                  or n.createdAt < :cursorCreatedAt
+                  or (n.createdAt = :cursorCreatedAt and n.id < :cursorId))
+           order by n.createdAt desc, n.id desc
+      """)
+  List<ItemRow> scrollForUser(
+      @Param("userId") Integer userId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable limit);
+
+  // ✅ 워터마크 이후 + 개별 읽음 안 된 알림 수 (idx_notif_user_read: (user_id, is_read, id) 범위 스캔)
+  @Query("""
+          select count(n)
+            from Notification n
+           where n.user.id = :userId
+             and n.isRead = false
+             and n.id > :afterId
+      """)
+  long countUnreadAfter(@Param("userId") Integer userId, @Param("afterId") long afterId);
 
-  long countByUserAndIsReadFalse(User user);
+  @Query("select max(n.id) from Notification n where n.user.id = :userId")
+  Optional<Long> findMaxIdByUserId(@Param("userId") Integer userId);
+
+  // ✅ 사용자별 미읽음 수를 한 번에 (워터마크는 사용자별 상관 서브쿼리)
+  record UnreadCountRow(Integer userId, Long count) {
+  }
+
+  @Query("""
+          select new com.juvis.juvis.notification.NotificationRepository$UnreadCountRow(n.user.id, count(n))
+            from Notification n
+           where n.user.id in :userIds
+             and n.isRead = false
+             and n.id > coalesce((select s.lastReadId
+                                    from NotificationReadState s
+                                   where s.userId = n.user.id), 0)
+           group by n.user.id
+      """)
+  List<UnreadCountRow> countUnreadByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+  // ✅ 방금 저장된 알림 (SSE 전송용, maintenance 제목까지 한 번에)
+  @Query("""
+          select n
+            from Notification n
+            join fetch n.maintenance
+           where n.maintenance.id = :maintenanceId
+             and n.status = :status
+             and n.eventType = :eventType
+             and n.attemptNo = :attemptNo
+             and n.user.id in :userIds
+      """)
+  List<Notification> findCreated(
+      @Param("maintenanceId") Long maintenanceId,
+      @Param("status") MaintenanceStatus status,
+      @Param("eventType") NotificationEventType eventType,
+      @Param("attemptNo") int attemptNo,
+      @Param("userIds") java.util.Collection<Integer> userIds);
 
   Optional<Notification> findByIdAndUser(Long id, User user);
 
@@ -24,14 +100,20 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
       MaintenanceStatus status,
       NotificationEventType eventType);
 
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  // ✅ 이미 같은 상태 알림을 받은 user id (대상 전체를 한 번에 확인)
   @Query("""
-          update Notification n
-             set n.isRead = true
-           where n.user.id = :userId
-             and n.isRead = false
+          select n.user.id
+            from Notification n
+           where n.maintenance.id = :maintenanceId
+             and n.status = :status
+             and n.eventType = :eventType
+             and n.user.id in :userIds
       """)
-  int markAllReadByUserId(@Param("userId") Long userId);
+  List<Integer> findNotifiedUserIds(
+      @Param("maintenanceId") Long maintenanceId,
+      @Param("status") MaintenanceStatus status,
+      @Param("eventType") NotificationEventType eventType,
+      @Param("userIds") java.util.Collection<Integer> userIds);
 
   boolean existsByUserAndMaintenanceAndEventTypeAndCreatedAtAfter(
       User user,
@@ -1,6 +1,8 @@
 package com.juvis.juvis.notification;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
 import com.juvis.juvis._core.enums.MaintenanceStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,15 +21,36 @@ public class NotificationResponse {
         private boolean read;
         private LocalDateTime createdAt;
 
-        public ItemDTO(Notification n) {
+        // lastReadId: 사용자 읽음 워터마크 (이하 id는 읽음)
+        public ItemDTO(Notification n, long lastReadId) {
             this.id = n.getId();
             this.maintenanceId = n.getMaintenance().getId();
             this.title = n.getMaintenance().getTitle();
             this.status = n.getStatus();
             this.eventType = n.getEventType(); // ✅ 추가
             this.message = n.getMessage();
-            this.read = n.isRead();
+            this.read = n.isRead() || n.getId() <= lastReadId;
             this.createdAt = n.getCreatedAt();
         }
+
+        public ItemDTO(NotificationRepository.ItemRow r, long lastReadId) {
+            this.id = r.id();
+            this.maintenanceId = r.maintenanceId();
+            this.title = r.title();
+            this.status = r.status();
+            this.eventType = r.eventType();
+            this.message = r.message();
+            this.read = Boolean.TRUE.equals(r.read()) || r.id() <= lastReadId;
+            this.createdAt = r.createdAt();
+        }
+    }
+
+    // ✅ keyset(cursor) 알림 이력 응답 - total count 없음
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPageDTO {
+        private List<ItemDTO> items;
+        private String nextCursor; // 마지막 페이지면 null
+        private boolean hasNext;
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.juvis.juvis.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 보존 정리 job
+ * - 보존 기간(age)이 지난 "읽은" 알림을 notification_archive로 이동(mode=archive) 또는 삭제(mode=delete)
+ * - 안 읽은 알림은 기간과 무관하게 유지
+ * - MIN(id)부터 batchSize PK 범위씩 처리, 범위마다 별도 트랜잭션 + 잠깐 쉼 → 긴 락/복제 지연 방지
+ * - max-batches는 실제로 행을 옮긴 범위만 셈 (오래된 안 읽은 알림이 앞쪽 범위를 채워도 진행 보장)
+ * - id는 생성 순서이므로 범위의 가장 오래된 created_at이 cutoff 이후면 종료
+ * - 메트릭: notification.retention.rows{mode}(이동/삭제 행 수), notification.retention.run(소요 시간)
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    public enum Mode {
+        ARCHIVE, DELETE
+    }
+
+    private final NotificationRetentionRepository retentionRepository;
+    private final boolean enabled;
+    private final Mode mode;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMillis;
+
+    private final Counter rowsCounter;
+    private final Timer runTimer;
+
+    public NotificationRetentionJob(
+            NotificationRetentionRepository retentionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.enabled:true}") boolean enabled,
+            @Value("${notification.retention.mode:ARCHIVE}") Mode mode,
+            @Value("${notification.retention.age:90d}") Duration age,
+            @Value("${notification.retention.batch-size:1000}") int batchSize,
+            @Value("${notification.retention.max-batches:1000}") int maxBatches,
+            @Value("${notification.retention.batch-pause-ms:50}") long batchPauseMillis) {
+        this.retentionRepository = retentionRepository;
+        this.enabled = enabled;
+        this.mode = mode;
+        this.age = age;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatches = maxBatches;
+        this.batchPauseMillis = batchPauseMillis;
+
+        this.rowsCounter = meterRegistry.counter("notification.retention.rows", "mode", mode.name().toLowerCase());
+        this.runTimer = meterRegistry.timer("notification.retention.run");
+    }
+
+    // 여러 인스턴스에서 동시에 돌아도 범위 처리가 멱등이라 결과는 같음 (중복 작업만 발생)
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled)
+            return;
+        runTimer.record(() -> purge(LocalDateTime.now().minus(age)));
+    }
+
+    // cutoff 이전 읽은 알림 정리, 처리 행 수 반환
+    public long purge(LocalDateTime cutoff) {
+        Optional<Long> minId = retentionRepository.findMinId();
+        Optional<Long> maxId = retentionRepository.findMaxId();
+        if (minId.isEmpty() || maxId.isEmpty())
+            return 0;
+
+        long start = System.currentTimeMillis();
+        long total = 0;
+        int batches = 0;
+
+        for (long from = minId.get(); from <= maxId.get() && batches < maxBatches; from += batchSize) {
+            long to = from + batchSize - 1;
+
+            Optional<LocalDateTime> oldest = retentionRepository.findMinCreatedAt(from, to);
+            if (oldest.isEmpty())
+                continue; // id 공백 구간
+            if (!oldest.get().isBefore(cutoff))
+                break;
+
+            int rows = mode == Mode.ARCHIVE
+                    ? retentionRepository.archiveRange(from, to, cutoff)
+                    : retentionRepository.deleteRange(from, to, cutoff);
+            if (rows == 0)
+                continue; // 안 읽은 알림만 남은 범위: 상한/대기 없이 다음 범위로
+            total += rows;
+            rowsCounter.increment(rows);
+            batches++;
+
+            if (!pause())
+                break;
+        }
+
+        log.info("[NOTIF-RETENTION] mode={} cutoff={} rows={} batches={} took={}ms",
+                mode, cutoff, total, batches, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0)
+            return true;
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.juvis.juvis.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 보존 정리 (JDBC, PK 범위 단위)
+ * - "읽음" = is_read 또는 id <= 사용자 읽음 워터마크 (notification_read_state)
+ * - archive/delete 메서드 1회 = 짧은 트랜잭션 1개 (범위 밖 행은 잠그지 않음)
+ * - archive에 없는 행만 복사 + archive에 들어간 id만 삭제 → 중간 실패/동시 실행에도 재실행 가능
+ * - 단일 테이블 DELETE + 서브쿼리만 사용 (MySQL 전용 multi-table DELETE 없음 → H2 테스트 가능)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    // 읽음 판정: 개별 플래그 또는 사용자 워터마크 이하
+    private static final String EXPIRED_READ_WHERE = """
+            n.id BETWEEN ? AND ?
+              AND n.created_at < ?
+              AND (n.is_read = TRUE
+                   OR n.id <= COALESCE((SELECT s.last_read_id
+                                          FROM notification_read_state s
+                                         WHERE s.user_id = n.user_id), 0))
+            """;
+
+    private static final String ARCHIVE_SQL = """
+            INSERT INTO notification_archive
+                (id, user_id, maintenance_id, status, event_type, message, created_at)
+            SELECT n.id, n.user_id, n.maintenance_id, n.status, n.event_type, n.message, n.created_at
+              FROM notification n
+             WHERE NOT EXISTS (SELECT 1 FROM notification_archive a WHERE a.id = n.id)
+               AND """ + EXPIRED_READ_WHERE;
+
+    // 방금 archive된 행만 삭제 (INSERT~DELETE 사이에 읽음 처리된 행이 archive 없이 지워지지 않도록)
+    private static final String DELETE_ARCHIVED_SQL = """
+            DELETE FROM notification
+             WHERE id BETWEEN ? AND ?
+               AND id IN (SELECT a.id FROM notification_archive a WHERE a.id BETWEEN ? AND ?)
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM notification n
+             WHERE """ + EXPIRED_READ_WHERE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findMinId() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MIN(id) FROM notification", Long.class));
+    }
+
+    public Optional<Long> findMaxId() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MAX(id) FROM notification", Long.class));
+    }
+
+    // 범위 안 가장 오래된 created_at (빈 범위면 empty) → cutoff 이후면 더 볼 필요 없음
+    public Optional<LocalDateTime> findMinCreatedAt(long fromId, long toId) {
+        Timestamp ts = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM notification WHERE id BETWEEN ? AND ?",
+                Timestamp.class, fromId, toId);
+        return Optional.ofNullable(ts).map(Timestamp::toLocalDateTime);
+    }
+
+    // 읽은 + cutoff 이전 알림을 archive로 이동, 삭제 행 수 반환
+    @Transactional
+    public int archiveRange(long fromId, long toId, LocalDateTime cutoff) {
+        jdbcTemplate.update(ARCHIVE_SQL, fromId, toId, Timestamp.valueOf(cutoff));
+        return jdbcTemplate.update(DELETE_ARCHIVED_SQL, fromId, toId, fromId, toId);
+    }
+
+    // 읽은 + cutoff 이전 알림 삭제 (보관 없음)
+    @Transactional
+    public int deleteRange(long fromId, long toId, LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_SQL, fromId, toId, Timestamp.valueOf(cutoff));
+    }
+}
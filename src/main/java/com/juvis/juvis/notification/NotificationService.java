@@ -1,10 +1,16 @@
 package com.juvis.juvis.notification;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +20,10 @@ import com.juvis.juvis._core.error.ex.ExceptionApi403;
 import com.juvis.juvis._core.error.ex.ExceptionApi404;
 import com.juvis.juvis.maintenance.Maintenance;
 import com.juvis.juvis.maintenance.MaintenanceRepository;
+import com.juvis.juvis.user.HqRecipientCache;
 import com.juvis.juvis.user.LoginUser;
 import com.juvis.juvis.user.User;
 import com.juvis.juvis.user.UserRepository;
-import com.juvis.juvis.user_device.UserDeviceRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,8 +37,12 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final MaintenanceRepository maintenanceRepository;
-    private final UserDeviceRepository userDeviceRepository;
-    private final FcmPushService fcmPushService;
+    private final PushSender pushSender;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
+    private final HqRecipientCache hqRecipientCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // =========================
     // 1) 상태 변경 기반 알림
@@ -42,13 +52,14 @@ public class NotificationService {
         if (before == after)
             return;
 
-        Set<User> targets = new LinkedHashSet<>();
+        // userId → 역할 (문구 결정용), 순서 유지
+        Map<Integer, UserRole> targets = new LinkedHashMap<>();
 
         // HQ: (any)->REQUESTED, ESTIMATING->APPROVAL_PENDING, IN_PROGRESS->COMPLETED
         if (after == MaintenanceStatus.REQUESTED
                 || (before == MaintenanceStatus.ESTIMATING && after == MaintenanceStatus.APPROVAL_PENDING)
                 || (before == MaintenanceStatus.IN_PROGRESS && after == MaintenanceStatus.COMPLETED)) {
-            targets.addAll(userRepository.findByRole(UserRole.HQ));
+            hqRecipientCache.hqUserIds().forEach(id -> targets.put(id, UserRole.HQ));
         }
 
         // Vendor: REQUESTED->ESTIMATING, APPROVAL_PENDING->IN_PROGRESS
@@ -58,7 +69,7 @@ public class NotificationService {
                     || (before == MaintenanceStatus.APPROVAL_PENDING && after == MaintenanceStatus.IN_PROGRESS);
 
             if (vendorShouldNotify) {
-                targets.add(m.getVendor());
+                targets.put(m.getVendor().getId(), m.getVendor().getRole());
             }
         }
 
@@ -75,31 +86,36 @@ public class NotificationService {
 
                 // 1️⃣ 요청자가 BRANCH면 요청자에게
                 if (m.getRequester() != null && m.getRequester().getRole() == UserRole.BRANCH) {
-                    targets.add(m.getRequester());
+                    targets.put(m.getRequester().getId(), UserRole.BRANCH);
 
                     // 2️⃣ 요청자가 HQ 등 다른 역할이면 → 해당 지점의 BRANCH 1명에게
                 } else if (m.getBranch() != null) {
-                    targets.addAll(
-                            userRepository.findAllByBranchIdAndRole(
-                                    m.getBranch().getId(),
-                                    UserRole.BRANCH));
+                    userRepository.findIdsByBranchIdAndRole(m.getBranch().getId(), UserRole.BRANCH)
+                            .forEach(id -> targets.put(id, UserRole.BRANCH));
                 }
             }
         }
 
-        // 저장 + dedupe
-        for (User u : targets) {
-            boolean exists = notificationRepository.existsByUserAndMaintenanceAndStatusAndEventType(
-                    u, m, after, NotificationEventType.STATUS_CHANGED);
-            if (exists)
-                continue;
+        if (targets.isEmpty())
+            return;
 
-            try {
-                notificationRepository.save(Notification.statusChanged(u, m, after));
-            } catch (Exception ignore) {
-            }
-        }
-        pushToTargets(targets, m, NotificationEventType.STATUS_CHANGED, after.name());
+        // ✅ 저장 + dedupe (대상 수와 무관하게 조회 1번 + batch insert 1번)
+        Set<Integer> notified = new HashSet<>(notificationRepository.findNotifiedUserIds(
+                m.getId(), after, NotificationEventType.STATUS_CHANGED, targets.keySet()));
+
+        List<NotificationBatchRepository.Row> rows = new ArrayList<>();
+        targets.forEach((userId, role) -> {
+            if (notified.contains(userId))
+                return;
+            rows.add(new NotificationBatchRepository.Row(
+                    userId, m.getId(), after, NotificationEventType.STATUS_CHANGED, 0,
+                    Notification.statusChangedMessage(role, after)));
+        });
+        notificationBatchRepository.insertIgnore(rows);
+        publishCreated(m, after, NotificationEventType.STATUS_CHANGED, 0,
+                rows.stream().map(NotificationBatchRepository.Row::userId).toList());
+
+        pushToTargets(targets.keySet(), m, NotificationEventType.STATUS_CHANGED, after.name());
     }
 
     // =========================
@@ -111,15 +127,15 @@ public class NotificationService {
         if (m.getStatus() != MaintenanceStatus.APPROVAL_PENDING)
             return;
 
-        Set<User> targets = new LinkedHashSet<>();
+        Set<Integer> targets = new LinkedHashSet<>();
 
         // Branch(요청자)
         if (m.getBranch() != null) {
-            targets.addAll(userRepository.findAllByBranchIdAndRole(m.getBranch().getId(), UserRole.BRANCH));
+            targets.addAll(userRepository.findIdsByBranchIdAndRole(m.getBranch().getId(), UserRole.BRANCH));
         }
 
         // HQ 전체
-        targets.addAll(userRepository.findByRole(UserRole.HQ));
+        targets.addAll(hqRecipientCache.hqUserIds());
 
         if (targets.isEmpty())
             return;
@@ -128,13 +144,16 @@ public class NotificationService {
         // (Notification 엔티티 unique key가 user_id, maintenance_id, event_type, attempt_no
         // 이므로)
         int dedupeKey = (int) (System.currentTimeMillis() % Integer.MAX_VALUE);
+        String message = Notification.estimateUpdatedMessage(m);
+
+        List<NotificationBatchRepository.Row> rows = targets.stream()
+                .map(userId -> new NotificationBatchRepository.Row(
+                        userId, m.getId(), m.getStatus(), NotificationEventType.ESTIMATE_UPDATED, dedupeKey,
+                        message))
+                .toList();
+        notificationBatchRepository.insertIgnore(rows);
+        publishCreated(m, m.getStatus(), NotificationEventType.ESTIMATE_UPDATED, dedupeKey, List.copyOf(targets));
 
-        for (User u : targets) {
-            try {
-                notificationRepository.save(Notification.estimateUpdated(u, m, dedupeKey));
-            } catch (Exception ignore) {
-            }
-        }
         pushToTargets(targets, m, NotificationEventType.ESTIMATE_UPDATED, m.getStatus().name());
     }
 
@@ -160,28 +179,77 @@ public class NotificationService {
     // =========================
     // 나머지 기존 기능
     // =========================
+    private static final int LIST_SIZE = 50;
+    private static final int SCROLL_DEFAULT_SIZE = 20;
+    private static final int SCROLL_MAX_SIZE = 100;
+
+    // 최근 50건 (스크롤 첫 페이지와 같은 쿼리)
     public java.util.List<NotificationResponse.ItemDTO> list(LoginUser loginUser) {
         User me = loadUser(loginUser);
-        return notificationRepository.findTop50ByUserOrderByCreatedAtDesc(me)
-                .stream().map(NotificationResponse.ItemDTO::new).toList();
+        return scrollRows(me.getId(), null, LIST_SIZE);
     }
 
+    // 알림 이력 - keyset(cursor) 버전 (count 없음)
+    public NotificationResponse.CursorPageDTO scroll(LoginUser loginUser, String cursor, int size) {
+        User me = loadUser(loginUser);
+        int limit = size <= 0 ? SCROLL_DEFAULT_SIZE : Math.min(size, SCROLL_MAX_SIZE);
+
+        // size+1건을 읽어 hasNext 판단, 마지막 항목으로 다음 커서 생성
+        List<NotificationResponse.ItemDTO> rows = scrollRows(me.getId(), NotificationCursor.decode(cursor), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<NotificationResponse.ItemDTO> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? NotificationCursor.of(items.get(items.size() - 1)).encode() : null;
+
+        return new NotificationResponse.CursorPageDTO(items, nextCursor, hasNext);
+    }
+
+    private List<NotificationResponse.ItemDTO> scrollRows(Integer userId, NotificationCursor c, int limit) {
+        long lastReadId = lastReadId(userId);
+        return notificationRepository.scrollForUser(
+                userId,
+                c == null ? null : c.createdAt(),
+                c == null ? null : c.id(),
+                PageRequest.of(0, limit))
+                .stream().map(r -> new NotificationResponse.ItemDTO(r, lastReadId)).toList();
+    }
+
+    // ✅ 워터마크 이후 알림만 카운트 (모두 읽음 직후엔 0건 범위)
     public long unreadCount(LoginUser loginUser) {
         User me = loadUser(loginUser);
-        return notificationRepository.countByUserAndIsReadFalse(me);
+        return notificationRepository.countUnreadAfter(me.getId(), lastReadId(me.getId()));
     }
 
+    // ✅ 워터마크 이하는 이미 읽음 → 워터마크 이후 알림만 개별 플래그 기록
     @Transactional
     public void markRead(LoginUser loginUser, Long id) {
         User me = loadUser(loginUser);
         Notification n = notificationRepository.findByIdAndUser(id, me)
                 .orElseThrow(() -> new ExceptionApi404("알림이 없습니다."));
-        n.markRead();
+        if (n.getId() > lastReadId(me.getId())) {
+            n.markRead();
+            eventPublisher.publishEvent(new NotificationReadEvent(me.getId()));
+        }
     }
 
+    // ✅ 알림 행 일괄 update 대신 워터마크 한 행만 갱신
     @Transactional
-    public void markAllRead(LoginUser user) {
-        notificationRepository.markAllReadByUserId(user.id().longValue());
+    public void markAllRead(LoginUser loginUser) {
+        User me = loadUser(loginUser);
+        notificationRepository.findMaxIdByUserId(me.getId())
+                .ifPresent(maxId -> notificationReadStateRepository.advance(me.getId(), maxId));
+        eventPublisher.publishEvent(new NotificationReadEvent(me.getId()));
+    }
+
+    // 커밋 후 SSE 전달 (NotificationStreamService)
+    private void publishCreated(Maintenance m, MaintenanceStatus status, NotificationEventType eventType,
+            int attemptNo, List<Integer> userIds) {
+        if (userIds.isEmpty())
+            return;
+        eventPublisher.publishEvent(new NotificationCreatedEvent(m.getId(), status, eventType, attemptNo, userIds));
+    }
+
+    private long lastReadId(Integer userId) {
+        return notificationReadStateRepository.findLastReadId(userId).orElse(0L);
     }
 
     private User loadUser(LoginUser loginUser) {
@@ -191,41 +259,42 @@ public class NotificationService {
                 .orElseThrow(() -> new ExceptionApi404("사용자 없음"));
     }
 
-    private void pushToTargets(Set<User> targets, Maintenance m, NotificationEventType eventType, String status) {
+    // ✅ 푸시는 바로 보내지 않고 outbox에 기록 (호출한 트랜잭션과 함께 커밋/롤백)
+    // 실제 발송은 커밋 후 PushOutboxDispatcher가 수행 → FCM 지연이 DB 트랜잭션을 붙잡지 않음
+    private void pushToTargets(Collection<Integer> targets, Maintenance m, NotificationEventType eventType,
+            String status) {
         if (targets == null || targets.isEmpty()) {
             log.info("📭 push skip: targets empty event={} mId={}", eventType, m.getId());
             return;
         }
 
-        List<Integer> userIds = targets.stream().map(User::getId).toList();
-        List<String> tokens = userDeviceRepository.findActiveTokensByUserIds(userIds);
-
-        log.info("📨 push prepare: event={} mId={} targets={} tokens={}",
-                eventType, m.getId(), userIds.size(), tokens.size());
-        if (tokens.isEmpty())
-            return;
+        List<Integer> userIds = List.copyOf(targets);
 
         String title = "[유지보수] " + (m.getTitle() == null ? "" : m.getTitle());
         String body = (eventType == NotificationEventType.ESTIMATE_UPDATED)
                 ? "견적이 수정되었습니다. 확인해주세요."
                 : "요청 상태가 변경되었습니다: " + status;
 
-        Map<String, String> data = Map.of(
-                "type", eventType.name(),
-                "maintenanceId", String.valueOf(m.getId()),
-                "status", status);
+        PushOutbox outbox = pushOutboxRepository.save(
+                PushOutbox.pending(eventType, m.getId(), status, title, body, userIds));
 
-        fcmPushService.sendToTokens(tokens, title, body, data);
+        log.info("📨 push enqueued: outboxId={} event={} mId={} targets={}",
+                outbox.getId(), eventType, m.getId(), userIds.size());
+
+        eventPublisher.publishEvent(new PushOutboxEnqueuedEvent(outbox.getId()));
     }
 
-    @Transactional
     public void sendTestPush(Long userId) {
 
         // ⚠️ 지금은 DB에서 가져오는 대신, 방금 확인한 토큰을 하드코딩
-        fcmPushService.sendToTokens(
-                List.of("en5-fs2ETp6i8BzR9YEH3F..."),
-                "🔥 테스트",
-                "지금 이 알림이 뜨면 성공",
-                Map.of("type", "TEST"));
+        try {
+            pushSender.send(
+                    List.of("en5-fs2ETp6i8BzR9YEH3F..."),
+                    "🔥 테스트",
+                    "지금 이 알림이 뜨면 성공",
+                    Map.of("type", "TEST"));
+        } catch (Exception e) {
+            log.error("❌ test push failed", e);
+        }
     }
 }
@@ -0,0 +1,151 @@
+package com.juvis.juvis.notification;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 SSE 연결 허브 (인스턴스 메모리, 사용자별 fan-out)
+ * - SseEmitter는 서블릿 async → 대기 중인 연결은 Tomcat 스레드를 잡지 않음
+ * - 실제 write는 가상 스레드에서 수행 (느린 클라이언트가 호출 스레드/다른 사용자 발송을 막지 않음)
+ * - 연결마다 이전 write 뒤에 이어 붙여 순서 보장 (notification → unread-count 순서가 뒤집히지 않도록)
+ * - 사용자별 연결 상한 초과 시 가장 오래된 연결을 닫음 (탭/앱 재접속 누적 방지)
+ * - heartbeat(주석 라인)로 프록시 idle timeout 방지 + 끊긴 연결 정리
+ * - 다른 인스턴스에 붙은 연결에는 전달되지 않음 → 클라이언트는 재접속 시 unread-count로 동기화
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private final Map<Integer, List<Connection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int maxPerUser;
+
+    public NotificationStreamHub(
+            MeterRegistry meterRegistry,
+            @Value("${notification.stream.timeout:30m}") Duration timeout,
+            @Value("${notification.stream.max-per-user:5}") int maxPerUser) {
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPerUser = Math.max(maxPerUser, 1);
+        meterRegistry.gauge("notification.stream.connections", connections);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        emitters.values().forEach(list -> list.forEach(c -> c.emitter.complete()));
+        sender.shutdown();
+    }
+
+    // ========================= 연결 =========================
+
+    public SseEmitter subscribe(Integer userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection conn = new Connection(userId, emitter);
+        List<Connection> evicted = new ArrayList<>();
+
+        // ✅ 추가/상한 정리는 remove()와 같은 compute 안에서 (재접속 중 목록이 맵에서 빠지는 경합 방지)
+        emitters.compute(userId, (id, list) -> {
+            List<Connection> current = list == null ? new CopyOnWriteArrayList<>() : list;
+            current.add(conn);
+            connections.incrementAndGet();
+
+            // 상한 초과분은 오래된 것부터 종료
+            while (current.size() > maxPerUser) {
+                evicted.add(current.remove(0));
+                connections.decrementAndGet();
+            }
+            return current;
+        });
+
+        emitter.onCompletion(() -> remove(conn));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(conn));
+
+        // complete()는 onCompletion → remove()를 부를 수 있어 compute 밖에서
+        evicted.forEach(c -> c.emitter.complete());
+        return emitter;
+    }
+
+    // 목록이 비면 같은 compute 안에서만 키 제거
+    private void remove(Connection conn) {
+        emitters.computeIfPresent(conn.userId, (id, list) -> {
+            if (list.remove(conn))
+                connections.decrementAndGet();
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // 현재 인스턴스에 연결된 사용자만 (DB 조회 대상 축소용)
+    public Set<Integer> connectedUserIds(Collection<Integer> userIds) {
+        return userIds.stream().filter(emitters::containsKey).collect(Collectors.toSet());
+    }
+
+    // ========================= 발송 =========================
+
+    public void send(Integer userId, String eventName, Object data) {
+        List<Connection> list = emitters.get(userId);
+        if (list == null)
+            return;
+        for (Connection conn : list) {
+            conn.enqueue(SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    // 프록시/ALB idle timeout 전에 주석 라인 전송 (실패하면 끊긴 연결)
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.values().forEach(list -> list.forEach(conn -> conn.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    // 연결 1개: write는 항상 직전 write가 끝난 뒤 실행 (연결 간에는 병렬)
+    private final class Connection {
+        private final Integer userId;
+        private final SseEmitter emitter;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        Connection(Integer userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        synchronized void enqueue(SseEmitter.SseEventBuilder event) {
+            tail = tail.thenRunAsync(() -> write(event), sender);
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 종료/이미 완료된 emitter (예외를 삼켜야 이후 체인이 끊기지 않음)
+                log.debug("SSE send failed userId={} error={}", userId, e.toString());
+                remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.juvis.juvis.notification;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.juvis.juvis.user.LoginUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 SSE 스트림
+ * - 연결 직후 현재 미읽음 수 1회 전송 → 이후엔 변경 시에만 push (목록/배지 polling 대체)
+ * - 알림 저장/읽음 처리 커밋 후(@Async) 연결된 사용자만 조회해서 전송
+ * - 연결된 사용자가 없으면 DB 조회 없음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationStreamService {
+
+    private final NotificationService notificationService;
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
+    private final NotificationStreamHub notificationStreamHub;
+
+    public SseEmitter subscribe(LoginUser loginUser) {
+        long unread = notificationService.unreadCount(loginUser); // 로그인/사용자 검증 포함
+        SseEmitter emitter = notificationStreamHub.subscribe(loginUser.id());
+        notificationStreamHub.send(loginUser.id(), NotificationStreamHub.EVENT_UNREAD_COUNT, unread);
+        return emitter;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCreated(NotificationCreatedEvent event) {
+        Set<Integer> userIds = notificationStreamHub.connectedUserIds(event.userIds());
+        if (userIds.isEmpty())
+            return;
+
+        Map<Integer, Long> lastReadIds = notificationReadStateRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(NotificationReadState::getUserId, NotificationReadState::getLastReadId));
+
+        notificationRepository.findCreated(event.maintenanceId(), event.status(), event.eventType(),
+                event.attemptNo(), userIds).forEach(n -> {
+                    Integer userId = n.getUser().getId();
+                    notificationStreamHub.send(userId, NotificationStreamHub.EVENT_NOTIFICATION,
+                            new NotificationResponse.ItemDTO(n, lastReadIds.getOrDefault(userId, 0L)));
+                });
+
+        sendUnreadCounts(userIds);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRead(NotificationReadEvent event) {
+        Set<Integer> userIds = notificationStreamHub.connectedUserIds(Set.of(event.userId()));
+        if (!userIds.isEmpty())
+            sendUnreadCounts(userIds);
+    }
+
+    // 미읽음 0건인 사용자는 결과 행이 없으므로 0으로 채움
+    private void sendUnreadCounts(Set<Integer> userIds) {
+        Map<Integer, Long> counts = notificationRepository.countUnreadByUserIds(userIds).stream()
+                .collect(Collectors.toMap(NotificationRepository.UnreadCountRow::userId,
+                        NotificationRepository.UnreadCountRow::count));
+
+        userIds.forEach(userId -> notificationStreamHub.send(
+                userId, NotificationStreamHub.EVENT_UNREAD_COUNT, counts.getOrDefault(userId, 0L)));
+    }
+}
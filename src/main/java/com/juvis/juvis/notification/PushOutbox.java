@@ -0,0 +1,137 @@
+package com.juvis.juvis.notification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 푸시 발송 outbox
+ * - NotificationService가 알림 저장과 같은 트랜잭션에서 기록
+ * - PushOutboxDispatcher가 커밋 후(또는 폴링으로) 꺼내서 발송
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Table(name = "push_outbox", indexes = {
+        @Index(name = "idx_push_outbox_due", columnList = "state, next_attempt_at")
+})
+public class PushOutbox {
+
+    public enum State {
+        PENDING, // 발송 대기(재시도 포함)
+        SENT,
+        FAILED // 최대 재시도 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private NotificationEventType eventType;
+
+    @Column(name = "maintenance_id", nullable = false)
+    private Long maintenanceId;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "body", nullable = false, length = 255)
+    private String body;
+
+    @Column(name = "target_user_ids", nullable = false, columnDefinition = "TEXT")
+    private String targetUserIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private State state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static PushOutbox pending(
+            NotificationEventType eventType,
+            Long maintenanceId,
+            String status,
+            String title,
+            String body,
+            Collection<Integer> userIds) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        return PushOutbox.builder()
+                .eventType(eventType)
+                .maintenanceId(maintenanceId)
+                .status(status)
+                .title(cut(title, 255))
+                .body(cut(body, 255))
+                .targetUserIds(userIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .state(State.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public List<Integer> userIds() {
+        if (targetUserIds == null || targetUserIds.isBlank())
+            return List.of();
+        return Arrays.stream(targetUserIds.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    // ✅ 발송 시작: 시도 횟수 증가 + lease(이 시간까지 다른 디스패처가 못 가져감)
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.state = State.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = cut(error, 500);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.state = State.FAILED;
+        this.lastError = cut(error, 500);
+    }
+
+    private static String cut(String s, int max) {
+        if (s == null)
+            return "";
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
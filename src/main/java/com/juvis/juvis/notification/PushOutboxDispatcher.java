@@ -0,0 +1,108 @@
+package com.juvis.juvis.notification;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.juvis.juvis.user_device.UserDeviceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * push_outbox 발송기
+ * - 커밋 직후(@TransactionalEventListener AFTER_COMMIT, @Async): 요청 스레드를 잡지 않고 바로 발송
+ * - 주기 폴링(@Scheduled): 재시도 대상/커밋 후 이벤트를 놓친 건 처리
+ * - 실패 시 지수 backoff (base * 2^(attempts-1), 최대 maxBackoff), maxAttempts 초과 시 FAILED
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxDispatcher {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final PushOutboxService pushOutboxService;
+    private final UserDeviceRepository userDeviceRepository;
+    private final PushSender pushSender;
+
+    @Value("${push.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${push.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${push.outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${push.outbox.max-backoff-seconds:600}")
+    private long maxBackoffSeconds;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(PushOutboxEnqueuedEvent event) {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${push.outbox.poll-delay-ms:5000}")
+    public void poll() {
+        drain();
+    }
+
+    // 대기 중인 건이 없을 때까지 batchSize 단위로 발송
+    public void drain() {
+        while (true) {
+            List<PushOutbox> batch = pushOutboxService.claimDue(batchSize, LEASE);
+            if (batch.isEmpty())
+                return;
+
+            for (PushOutbox o : batch) {
+                dispatch(o);
+            }
+
+            if (batch.size() < batchSize)
+                return;
+        }
+    }
+
+    private void dispatch(PushOutbox o) {
+        try {
+            List<String> tokens = userDeviceRepository.findActiveTokensByUserIds(o.userIds());
+
+            log.info("📨 push dispatch: outboxId={} event={} mId={} targets={} tokens={} attempt={}",
+                    o.getId(), o.getEventType(), o.getMaintenanceId(), o.userIds().size(), tokens.size(),
+                    o.getAttempts());
+
+            if (!tokens.isEmpty()) {
+                Map<String, String> data = Map.of(
+                        "type", o.getEventType().name(),
+                        "maintenanceId", String.valueOf(o.getMaintenanceId()),
+                        "status", o.getStatus());
+
+                pushSender.send(tokens, o.getTitle(), o.getBody(), data);
+            }
+
+            pushOutboxService.markSent(o.getId());
+
+        } catch (Exception e) {
+            Duration backoff = backoff(o.getAttempts());
+            log.warn("❌ push dispatch failed: outboxId={} attempt={}/{} retryIn={} error={}",
+                    o.getId(), o.getAttempts(), maxAttempts, backoff, e.toString());
+
+            pushOutboxService.markFailed(o.getId(), e.toString(), maxAttempts, backoff);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        int exp = Math.min(Math.max(attempts - 1, 0), 20);
+        long seconds = Math.min(baseBackoffSeconds << exp, maxBackoffSeconds);
+        return Duration.ofSeconds(seconds);
+    }
+}
@@ -0,0 +1,5 @@
+package com.juvis.juvis.notification;
+
+// outbox 기록 후 발행 → 커밋되면 디스패처가 즉시 발송 시도
+public record PushOutboxEnqueuedEvent(Long outboxId) {
+}
@@ -0,0 +1,34 @@
+package com.juvis.juvis.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    // ✅ 발송 대상 선점 (FOR UPDATE SKIP LOCKED)
+    // - 여러 인스턴스/스레드가 동시에 폴링해도 같은 행을 가져가지 않음
+    // - lock.timeout = -2 → Hibernate SKIP_LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select o
+            from PushOutbox o
+            where o.state = :state
+              and o.nextAttemptAt <= :now
+            order by o.id asc
+            """)
+    List<PushOutbox> findDueForUpdate(
+            @Param("state") PushOutbox.State state,
+            @Param("now") LocalDateTime now,
+            Pageable limit);
+}
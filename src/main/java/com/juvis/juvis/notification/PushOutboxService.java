@@ -0,0 +1,52 @@
+package com.juvis.juvis.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 상태 변경 (각 메서드가 짧은 트랜잭션 1개)
+ * - 실제 발송(네트워크)은 PushOutboxDispatcher에서 트랜잭션 밖에서 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PushOutboxService {
+
+    private final PushOutboxRepository pushOutboxRepository;
+
+    // ✅ 발송할 행 선점: SKIP LOCKED로 읽고 lease를 걸어 커밋
+    // → lease 동안은 다른 디스패처가 못 가져가고, 프로세스가 죽으면 lease 후 재시도됨
+    public List<PushOutbox> claimDue(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PushOutbox> due = pushOutboxRepository.findDueForUpdate(
+                PushOutbox.State.PENDING, now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        due.forEach(o -> o.claim(leaseUntil));
+
+        return due;
+    }
+
+    public void markSent(Long id) {
+        pushOutboxRepository.findById(id).ifPresent(PushOutbox::markSent);
+    }
+
+    // ✅ 실패: maxAttempts 미만이면 backoff 후 재시도, 이상이면 FAILED
+    public void markFailed(Long id, String error, int maxAttempts, Duration backoff) {
+        pushOutboxRepository.findById(id).ifPresent(o -> {
+            if (o.getAttempts() >= maxAttempts) {
+                o.markFailed(error);
+            } else {
+                o.markRetry(error, LocalDateTime.now().plus(backoff));
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.juvis.juvis.notification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 구현체
+ * - firebase.enabled=true  → FcmPushService
+ * - firebase.enabled=false → LocalPushSender (테스트/로컬)
+ */
+public interface PushSender {
+
+    // 전송 자체가 실패하면 예외 → outbox 재시도 대상
+    void send(List<String> tokens, String title, String body, Map<String, String> data) throws Exception;
+}
@@ -24,18 +24,18 @@ import lombok.RequiredArgsConstructor;
 public class PushTestController {
 
     private final NotificationService notificationService;
-    private final FcmPushService fcmPushService;
+    private final PushSender pushSender;
     private final UserDeviceRepository userDeviceRepository;
 
     @PostMapping("/push-me")
-    public ResponseEntity<Resp<Void>> pushMe(@AuthenticationPrincipal LoginUser loginUser) {
+    public ResponseEntity<Resp<Void>> pushMe(@AuthenticationPrincipal LoginUser loginUser) throws Exception {
         // 로그인한 내 id로 DB에서 토큰 조회
         List<String> tokens = userDeviceRepository.findActiveTokensByUserIds(List.of(loginUser.id()));
         if (tokens.isEmpty())
             return Resp.ok(null);
 
         String token = tokens.get(0); // 가장 최신 1개만
-        fcmPushService.sendToTokens(
+        pushSender.send(
                 List.of(token),
                 "🔥 테스트",
                 "지금 이 알림이 뜨면 성공",
@@ -1,5 +1,7 @@
 package com.juvis.juvis.storage;
 
+import java.time.Duration;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,4 +17,12 @@ public class StorageProps {
     private String bucket;
 
     private String prefix = "maintenance";
+
+    // ✅ 조회용(GET) presigned URL
+    // - getUrlTtl: 서명 유효기간
+    // - getUrlMinRemaining: 캐시된 URL을 내려줄 때 최소로 남아 있어야 하는 유효기간 (이보다 적으면 재서명)
+    // - getUrlCacheMaxSize: 캐시 최대 fileKey 수
+    private Duration getUrlTtl = Duration.ofMinutes(30);
+    private Duration getUrlMinRemaining = Duration.ofMinutes(10);
+    private long getUrlCacheMaxSize = 10_000;
 }
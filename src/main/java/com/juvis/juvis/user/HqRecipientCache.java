@@ -0,0 +1,51 @@
+package com.juvis.juvis.user;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.juvis.juvis._core.enums.UserRole;
+
+/**
+ * HQ 알림 수신자 id 캐시
+ * - 상태 변경 알림마다 HQ 전체 User를 읽지 않도록 id 목록만 메모리에 보관
+ * - 사용자 생성/변경 시 invalidate() (트랜잭션 안이면 커밋 후 무효화)
+ * - DB 직접 수정 대비 TTL 후 자동 재조회 (동시 미스는 한 번만 조회)
+ */
+@Component
+public class HqRecipientCache {
+
+    private final LoadingCache<UserRole, List<Integer>> ids;
+
+    public HqRecipientCache(
+            UserRepository userRepository,
+            @Value("${notification.hq-recipient-cache.ttl:10m}") Duration ttl) {
+        this.ids = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1)
+                .build(role -> List.copyOf(userRepository.findIdsByRole(role)));
+    }
+
+    public List<Integer> hqUserIds() {
+        return ids.get(UserRole.HQ);
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.invalidateAll();
+                }
+            });
+            return;
+        }
+        ids.invalidateAll();
+    }
+}
@@ -54,6 +54,26 @@ public class UserRepository {
 
     }
 
+    // ✅ 알림 대상용: 엔티티 대신 id만
+    public List<Integer> findIdsByRole(UserRole role) {
+        return em.createQuery("select u.id from User u where u.role = :role order by u.id asc", Integer.class)
+                .setParameter("role", role)
+                .getResultList();
+    }
+
+    public List<Integer> findIdsByBranchIdAndRole(Long branchId, UserRole role) {
+        return em.createQuery("""
+                select u.id
+                from User u
+                where u.branch.id = :branchId
+                  and u.role = :role
+                order by u.id asc
+                """, Integer.class)
+                .setParameter("branchId", branchId)
+                .setParameter("role", role)
+                .getResultList();
+    }
+
     public List<User> findBranchUsers() {
         return em.createQuery(
                 """
@@ -28,6 +28,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final BranchRepository branchRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final HqRecipientCache hqRecipientCache;
 
     @Transactional(noRollbackFor = { ExceptionApi401.class, ExceptionApi403.class })
 public UserResponse.LoginDTO login(UserRequest.LoginDTO loginDTO) {
@@ -141,6 +142,7 @@ public UserResponse.LoginDTO login(UserRequest.LoginDTO loginDTO) {
                 .build();
 
         User userPS = userRepository.save(branchUser);
+        hqRecipientCache.invalidate(); // ✅ 사용자 변경 → 알림 수신자 캐시 무효화
 
         log.info("[HQ Branch Create] branchName={}, username={} by hqId={}",
                 savedBranch.getBranchName(), userPS.getUsername(), loginUser.id());
@@ -180,6 +182,7 @@ public UserResponse.LoginDTO login(UserRequest.LoginDTO loginDTO) {
                 .orElseThrow(() -> new ExceptionApi404("사용자 없음"));
 
         user.setActive(active);
+        hqRecipientCache.invalidate();
     }
 
     @Transactional
@@ -47,4 +47,19 @@ public class UserDeviceRepository {
                 .setParameter("ids", userIds)
                 .getResultList();
     }
+
+    // ✅ 만료 토큰 일괄 비활성화 (update 한 번)
+    public int deactivateByTokens(java.util.Collection<String> tokens) {
+        if (tokens == null || tokens.isEmpty())
+            return 0;
+
+        return em.createQuery("""
+                update UserDevice d
+                set d.isActive = false
+                where d.fcmToken in :tokens
+                  and d.isActive = true
+                """)
+                .setParameter("tokens", tokens)
+                .executeUpdate();
+    }
 }
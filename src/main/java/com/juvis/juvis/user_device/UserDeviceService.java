@@ -1,5 +1,7 @@
 package com.juvis.juvis.user_device;
 
+import java.util.Collection;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,4 +40,10 @@ public class UserDeviceService {
             userDeviceRepository.save(UserDevice.of(me, platform, token));
         });
     }
+
+    // FCM이 UNREGISTERED/INVALID_ARGUMENT로 응답한 토큰 → 다음 발송 대상에서 제외 (앱 재등록 시 upsert로 다시 활성화)
+    @Transactional
+    public int deactivateTokens(Collection<String> tokens) {
+        return userDeviceRepository.deactivateByTokens(tokens);
+    }
 }
@@ -0,0 +1,139 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * maintenance_estimate_attempt.estimate_amount: VARCHAR → DECIMAL (2/3)
+ * - id 범위 BATCH_SIZE 단위로 estimate_amount_value 채움 (배치마다 커밋 → 긴 락/큰 undo 방지)
+ * - 변환 규칙: 콤마/공백/"원" 제거 후 숫자(소수 2자리까지)면 그대로,
+ *   아니면 기존 엑셀 export와 같은 규칙(숫자만 추출), 숫자가 없으면 0
+ * - 숫자 형식이 아닌 행은 backfill 전에 원문을 estimate_amount_fallback에 보관
+ *   (V9가 문자열 컬럼을 지워도 남음 → 0/숫자만 추출된 금액을 나중에 원문과 대조해 보정)
+ * - 중간에 실패해도 NULL인 행만 다시 채우고 보관은 INSERT IGNORE라 재실행 가능
+ */
+@Slf4j
+public class V8__BackfillEstimateAmountValue extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String CLEANED = "REGEXP_REPLACE(estimate_amount, '[[:space:],원]', '')";
+    private static final String DIGITS = "REGEXP_REPLACE(estimate_amount, '[^0-9]', '')";
+
+    private static final String UPDATE_SQL = """
+            UPDATE maintenance_estimate_attempt
+            SET estimate_amount_value = CASE
+                  WHEN %1$s REGEXP '^[0-9]{1,13}([.][0-9]{1,2})?$' THEN CAST(%1$s AS DECIMAL(15, 2))
+                  WHEN %2$s REGEXP '^[0-9]{1,13}$' THEN CAST(%2$s AS DECIMAL(15, 2))
+                  ELSE 0
+                END
+            WHERE id BETWEEN ? AND ?
+              AND estimate_amount_value IS NULL
+            """.formatted(CLEANED, DIGITS);
+
+    private static final String CREATE_FALLBACK_SQL = """
+            CREATE TABLE IF NOT EXISTS estimate_amount_fallback (
+              attempt_id BIGINT UNSIGNED NOT NULL,
+              original_amount VARCHAR(50) NOT NULL COMMENT '변환 전 견적 문자열',
+              rule VARCHAR(20) NOT NULL COMMENT 'DIGITS_ONLY: 숫자만 추출 / NO_DIGITS: 0으로 저장',
+              created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+              PRIMARY KEY (attempt_id),
+              KEY idx_eaf_rule (rule)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """;
+
+    private static final String SAVE_FALLBACK_SQL = """
+            INSERT IGNORE INTO estimate_amount_fallback (attempt_id, original_amount, rule)
+            SELECT id, estimate_amount,
+                   CASE WHEN %2$s REGEXP '^[0-9]{1,13}$' THEN 'DIGITS_ONLY' ELSE 'NO_DIGITS' END
+            FROM maintenance_estimate_attempt
+            WHERE estimate_amount_value IS NULL
+              AND NOT (%1$s REGEXP '^[0-9]{1,13}([.][0-9]{1,2})?$')
+            """.formatted(CLEANED, DIGITS);
+
+    private static final String COUNT_FALLBACK_SQL = """
+            SELECT rule, COUNT(*)
+            FROM estimate_amount_fallback
+            GROUP BY rule
+            """;
+
+    // 배치마다 커밋해야 하므로 Flyway 트랜잭션 밖에서 실행
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conn = context.getConnection();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        try (Statement st = conn.createStatement()) {
+            saveFallbackRows(st);
+            conn.commit();
+
+            long minId;
+            long maxId;
+            try (ResultSet rs = st.executeQuery("SELECT MIN(id), MAX(id) FROM maintenance_estimate_attempt")) {
+                rs.next();
+                minId = rs.getLong(1);
+                maxId = rs.getLong(2);
+                if (rs.wasNull()) {
+                    log.info("[MIGRATION] estimate_amount backfill: no rows");
+                    return;
+                }
+            }
+
+            long updated = 0;
+            long start = System.currentTimeMillis();
+
+            try (PreparedStatement ps = conn.prepareStatement(UPDATE_SQL)) {
+                for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                    ps.setLong(1, from);
+                    ps.setLong(2, from + BATCH_SIZE - 1);
+                    updated += ps.executeUpdate();
+                    conn.commit();
+                }
+            }
+
+            log.info("[MIGRATION] estimate_amount backfill done rows={} took={}ms",
+                    updated, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    // ✅ 숫자 형식이 아닌 행(숫자만 추출 / 숫자 없음 → 0)은 원문을 보관하고 전체 건수를 로그로 남김
+    private void saveFallbackRows(Statement st) throws Exception {
+        st.execute(CREATE_FALLBACK_SQL);
+        st.executeUpdate(SAVE_FALLBACK_SQL);
+
+        long digitsOnly = 0;
+        long noDigits = 0;
+        try (ResultSet rs = st.executeQuery(COUNT_FALLBACK_SQL)) {
+            while (rs.next()) {
+                if ("NO_DIGITS".equals(rs.getString(1)))
+                    noDigits = rs.getLong(2);
+                else
+                    digitsOnly += rs.getLong(2);
+            }
+        }
+
+        if (digitsOnly + noDigits > 0) {
+            log.warn("[MIGRATION] estimate_amount not numeric total={} (digits only={}, no digits → 0={})"
+                    + " original values kept in estimate_amount_fallback",
+                    digitsOnly + noDigits, digitsOnly, noDigits);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+-- =========================================================
+-- maintenance_request: 승인 견적 스냅샷
+-- - approveEstimate 시 승인 attempt(id/견적가/작업예정일)를 요청 행에 저장
+-- - 완료 시 최종견적가(final_amount)도 함께 저장
+-- - 엑셀/목록/집계가 "요청별 최신 승인 attempt" 상관 서브쿼리 없이 요청 행만 읽음
+-- =========================================================
+ALTER TABLE maintenance_request
+  ADD COLUMN approved_attempt_id BIGINT UNSIGNED NULL AFTER vendor_worker_id,
+  ADD COLUMN final_amount DECIMAL(15, 0) NULL AFTER estimate_amount,
+  ADD INDEX idx_mr_estimate_approved (estimate_approved_at);
+
+-- 기존 데이터: 요청별 최신 승인 attempt로 채움 (1회성)
+UPDATE maintenance_request m
+JOIN (
+  SELECT a.maintenance_id, a.id, a.estimate_amount, a.final_amount
+  FROM maintenance_estimate_attempt a
+  JOIN (
+    SELECT maintenance_id, MAX(attempt_no) AS attempt_no
+    FROM maintenance_estimate_attempt
+    WHERE hq_decision = 'APPROVED'
+    GROUP BY maintenance_id
+  ) latest
+    ON latest.maintenance_id = a.maintenance_id
+   AND latest.attempt_no = a.attempt_no
+) ap ON ap.maintenance_id = m.request_id
+SET m.approved_attempt_id = ap.id,
+    m.estimate_amount = ap.estimate_amount,
+    m.final_amount = ap.final_amount;
+
+-- V9의 attempt 승인일 인덱스는 비용 집계가 요청 행으로 옮겨져 불필요
+ALTER TABLE maintenance_estimate_attempt
+  DROP INDEX idx_mea_decision_decided;
@@ -0,0 +1,12 @@
+-- =========================================================
+-- maintenance_export_version
+-- - 월(요청 생성월)별 데이터 버전: 해당 월 요청의 상태/견적이 바뀌면 같은 트랜잭션에서 +1
+-- - 엑셀 export 캐시 키 = (필터, 버전) → 버전이 바뀌면 이전 파일은 자연히 미사용
+-- =========================================================
+CREATE TABLE maintenance_export_version (
+  ym VARCHAR(7) NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
+  updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+  PRIMARY KEY (ym)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,22 @@
+-- =========================================================
+-- notification_read_state
+-- - 사용자별 읽음 워터마크: id <= last_read_id 인 알림은 모두 읽음으로 간주
+-- - 워터마크 이후 알림만 notification.is_read(개별 읽음)를 참고
+-- - 모두 읽음 = 이 테이블 한 행 갱신 (notification 행은 건드리지 않음)
+-- =========================================================
+CREATE TABLE notification_read_state (
+  user_id BIGINT UNSIGNED NOT NULL,
+  last_read_id BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+  PRIMARY KEY (user_id),
+  CONSTRAINT fk_nrs_user FOREIGN KEY (user_id) REFERENCES user_tb(user_id)
+    ON UPDATE RESTRICT ON DELETE RESTRICT
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 데이터: 첫 번째 안 읽은 알림 직전까지(없으면 마지막 알림까지)를 워터마크로
+INSERT INTO notification_read_state (user_id, last_read_id)
+SELECT user_id,
+       COALESCE(MIN(CASE WHEN is_read = FALSE THEN id END) - 1, MAX(id))
+  FROM notification
+ GROUP BY user_id;
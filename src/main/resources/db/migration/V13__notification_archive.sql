@@ -0,0 +1,22 @@
+-- =========================================================
+-- notification_archive
+-- - 보존 기간이 지난 "읽은" 알림을 옮겨두는 테이블 (NotificationRetentionJob)
+-- - 조회용 컬럼만 유지 (attempt_no/is_read 제외, dedupe unique 없음) → 행/인덱스 크기 축소
+-- - FK 없음: 원본 사용자/요청 정리와 무관하게 보관
+-- =========================================================
+CREATE TABLE notification_archive (
+  id BIGINT UNSIGNED NOT NULL,
+
+  user_id BIGINT UNSIGNED NOT NULL,
+  maintenance_id BIGINT UNSIGNED NOT NULL,
+
+  status VARCHAR(50) NOT NULL,
+  event_type VARCHAR(30) NOT NULL,
+  message VARCHAR(255) NOT NULL,
+
+  created_at DATETIME(6) NOT NULL,
+  archived_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+  PRIMARY KEY (id),
+  KEY idx_notif_archive_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,62 @@
+-- =========================================================
+-- maintenance_request.first_submitted_at
+-- - 최초 제출 시각 (한 번만 기록). submitted_at은 반려 후 재제출 시 덮어씀
+-- - 월별 집계의 접수월/소요시간 기준을 누적 경로와 rebuild 모두 first_submitted_at으로 통일
+-- =========================================================
+ALTER TABLE maintenance_request
+  ADD COLUMN first_submitted_at DATETIME(6) NULL AFTER submitted_at;
+
+-- 기존 데이터: submitted_at으로 채우고, REQUESTED 알림이 남아 있으면 그중 가장 이른 시각 사용
+-- (재제출로 덮어쓴 행의 최초 제출 시각을 최대한 복원)
+UPDATE maintenance_request m
+LEFT JOIN (
+  SELECT n.maintenance_id, MIN(n.created_at) AS first_requested_at
+  FROM notification n
+  WHERE n.status = 'REQUESTED'
+  GROUP BY n.maintenance_id
+) fr ON fr.maintenance_id = m.request_id
+SET m.first_submitted_at = CASE
+      WHEN fr.first_requested_at IS NULL THEN m.submitted_at
+      WHEN m.submitted_at IS NULL THEN fr.first_requested_at
+      ELSE LEAST(m.submitted_at, fr.first_requested_at)
+    END
+WHERE m.submitted_at IS NOT NULL
+   OR fr.first_requested_at IS NOT NULL;
+
+-- 월별 집계를 first_submitted_at 기준으로 다시 계산 (V6 초기 적재 대체)
+DELETE FROM maintenance_monthly_rollup;
+
+INSERT INTO maintenance_monthly_rollup (ym, branch_id, category, requested_cnt)
+SELECT DATE_FORMAT(first_submitted_at, '%Y-%m'), branch_id, category, COUNT(*)
+FROM maintenance_request
+WHERE first_submitted_at IS NOT NULL
+GROUP BY DATE_FORMAT(first_submitted_at, '%Y-%m'), branch_id, category;
+
+INSERT INTO maintenance_monthly_rollup
+  (ym, branch_id, category, completed_cnt, lead_time_cnt, lead_time_minutes_sum,
+   approved_estimate_sum, final_amount_sum)
+SELECT * FROM (
+  SELECT c.ym, c.branch_id, c.category,
+         COUNT(*) AS completed_cnt,
+         COUNT(c.lead_minutes) AS lead_time_cnt,
+         COALESCE(SUM(c.lead_minutes), 0) AS lead_time_minutes_sum,
+         COALESCE(SUM(c.estimate_amount), 0) AS approved_estimate_sum,
+         COALESCE(SUM(c.final_amount), 0) AS final_amount_sum
+  FROM (
+    SELECT DATE_FORMAT(m.work_completed_at, '%Y-%m') AS ym, m.branch_id, m.category,
+           CASE WHEN m.first_submitted_at IS NOT NULL AND m.work_completed_at >= m.first_submitted_at
+                THEN TIMESTAMPDIFF(MINUTE, m.first_submitted_at, m.work_completed_at) END AS lead_minutes,
+           m.estimate_amount AS estimate_amount,
+           m.final_amount AS final_amount
+    FROM maintenance_request m
+    WHERE m.status = 'COMPLETED'
+      AND m.work_completed_at IS NOT NULL
+  ) c
+  GROUP BY c.ym, c.branch_id, c.category
+) agg
+ON DUPLICATE KEY UPDATE
+  completed_cnt = agg.completed_cnt,
+  lead_time_cnt = agg.lead_time_cnt,
+  lead_time_minutes_sum = agg.lead_time_minutes_sum,
+  approved_estimate_sum = agg.approved_estimate_sum,
+  final_amount_sum = agg.final_amount_sum;
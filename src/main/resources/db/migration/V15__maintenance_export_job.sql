@@ -0,0 +1,48 @@
+-- =========================================================
+-- maintenance_export_job
+-- - 엑셀 export 백그라운드 job 상태 (인스턴스 메모리 대신 DB → 어느 인스턴스로 polling해도 같은 상태)
+-- - active_filter_key: 진행 중(QUEUED/RUNNING)일 때만 필터 키, 끝나면 NULL
+--   → UNIQUE로 인스턴스 간에도 같은 필터 job 하나만 (NULL은 중복 허용)
+-- - node: 실행 중인 인스턴스 (재시작/장애 시 정리 기준)
+-- - file_key: 완료 파일 위치 (S3 object key, 로컬 저장소면 파일명)
+-- =========================================================
+CREATE TABLE maintenance_export_job (
+  id VARCHAR(36) NOT NULL,
+  owner_id BIGINT UNSIGNED NOT NULL,
+
+  filter_status VARCHAR(50) NULL,
+  filter_category VARCHAR(30) NULL,
+  filter_branch_id BIGINT UNSIGNED NULL,
+  filter_ym VARCHAR(7) NULL,
+  filter_key VARCHAR(200) NOT NULL,
+  active_filter_key VARCHAR(200) NULL,
+
+  state VARCHAR(20) NOT NULL,
+  node VARCHAR(100) NOT NULL,
+
+  file_key VARCHAR(500) NULL,
+  file_size BIGINT NOT NULL DEFAULT 0,
+  row_count INT NOT NULL DEFAULT 0,
+  error_message VARCHAR(500) NULL,
+
+  created_at DATETIME(6) NOT NULL,
+  finished_at DATETIME(6) NULL,
+
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_export_job_active_filter (active_filter_key),
+  KEY idx_export_job_owner_state (owner_id, state),
+  KEY idx_export_job_state_created (state, created_at),
+  KEY idx_export_job_finished (finished_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 같은 job을 공유하는 사용자 (조회/다운로드 권한)
+CREATE TABLE maintenance_export_job_viewer (
+  job_id VARCHAR(36) NOT NULL,
+  user_id BIGINT UNSIGNED NOT NULL,
+
+  PRIMARY KEY (job_id, user_id),
+
+  CONSTRAINT fk_export_job_viewer_job
+    FOREIGN KEY (job_id) REFERENCES maintenance_export_job(id)
+    ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
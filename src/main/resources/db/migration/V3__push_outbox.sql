@@ -0,0 +1,28 @@
+-- =========================================================
+-- push_outbox
+-- - 알림 저장과 같은 트랜잭션에서 푸시 발송 건을 기록
+-- - 커밋 후 디스패처가 읽어서 FCM 발송 (실패 시 next_attempt_at 으로 재시도)
+-- =========================================================
+CREATE TABLE push_outbox (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
+
+  event_type VARCHAR(30) NOT NULL,
+  maintenance_id BIGINT UNSIGNED NOT NULL,
+  status VARCHAR(50) NOT NULL,
+
+  title VARCHAR(255) NOT NULL,
+  body VARCHAR(255) NOT NULL,
+
+  -- 수신 대상 user_id 목록 (콤마 구분). 토큰은 발송 시점에 조회
+  target_user_ids TEXT NOT NULL,
+
+  state VARCHAR(20) NOT NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at DATETIME(6) NOT NULL,
+  last_error VARCHAR(500) NULL,
+
+  created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  sent_at DATETIME(6) NULL,
+
+  KEY idx_push_outbox_due (state, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
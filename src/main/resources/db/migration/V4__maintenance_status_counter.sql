@@ -0,0 +1,24 @@
+-- =========================================================
+-- maintenance_status_counter
+-- - 대시보드 summary용 상태별 건수 (전체 / 지점별 / 업체별)
+-- - 상태 전이 시 같은 트랜잭션에서 +1/-1, 주기적으로 원본 기준 재계산
+-- - scope_id: ALL=0, BRANCH=branch_id, VENDOR=vendor_id
+-- =========================================================
+CREATE TABLE maintenance_status_counter (
+  scope VARCHAR(10) NOT NULL,
+  scope_id BIGINT UNSIGNED NOT NULL,
+  status VARCHAR(50) NOT NULL,
+  cnt BIGINT NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (scope, scope_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+SELECT 'ALL', 0, status, COUNT(*) FROM maintenance_request GROUP BY status;
+
+INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+SELECT 'BRANCH', branch_id, status, COUNT(*) FROM maintenance_request GROUP BY branch_id, status;
+
+INSERT INTO maintenance_status_counter (scope, scope_id, status, cnt)
+SELECT 'VENDOR', vendor_id, status, COUNT(*) FROM maintenance_request
+WHERE vendor_id IS NOT NULL GROUP BY vendor_id, status;
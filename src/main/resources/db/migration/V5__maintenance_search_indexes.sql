@@ -0,0 +1,13 @@
+-- =========================================================
+-- maintenance_request 목록 검색용 복합 인덱스
+-- - ops/HQ/지점 목록: 필터(status | branch_id) + created_at desc 정렬
+-- - 완료월 필터 / 완료일 정렬: work_completed_at desc, created_at desc
+-- - 단일 status/branch_id 인덱스는 복합 인덱스의 선두 컬럼과 겹쳐 제거
+--   (fk_mr_branch는 idx_mr_branch_created로 커버)
+-- =========================================================
+ALTER TABLE maintenance_request
+  ADD INDEX idx_mr_status_created (status, created_at),
+  ADD INDEX idx_mr_branch_created (branch_id, created_at),
+  ADD INDEX idx_mr_completed_created (work_completed_at, created_at),
+  DROP INDEX idx_mr_status,
+  DROP INDEX idx_mr_branch;
@@ -0,0 +1,60 @@
+-- =========================================================
+-- maintenance_monthly_rollup
+-- - 월별 운영 리포트용 집계 (월 × 지점 × 분야)
+-- - requested_cnt: 제출월(submitted_at) 기준 신규 접수 건수
+-- - completed_cnt / 소요시간 / 금액: 완료월(work_completed_at) 기준
+-- - 제출/완료 시 같은 트랜잭션에서 누적, 어긋나면 /api/ops/analytics/monthly/rebuild
+-- =========================================================
+CREATE TABLE maintenance_monthly_rollup (
+  ym VARCHAR(7) NOT NULL,
+  branch_id BIGINT UNSIGNED NOT NULL,
+  category VARCHAR(30) NOT NULL,
+
+  requested_cnt BIGINT NOT NULL DEFAULT 0,
+  completed_cnt BIGINT NOT NULL DEFAULT 0,
+  lead_time_cnt BIGINT NOT NULL DEFAULT 0,
+  lead_time_minutes_sum BIGINT NOT NULL DEFAULT 0,
+  approved_estimate_sum DECIMAL(18, 2) NOT NULL DEFAULT 0,
+  final_amount_sum DECIMAL(18, 2) NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (ym, branch_id, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO maintenance_monthly_rollup (ym, branch_id, category, requested_cnt)
+SELECT DATE_FORMAT(submitted_at, '%Y-%m'), branch_id, category, COUNT(*)
+FROM maintenance_request
+WHERE submitted_at IS NOT NULL
+GROUP BY DATE_FORMAT(submitted_at, '%Y-%m'), branch_id, category;
+
+INSERT INTO maintenance_monthly_rollup
+  (ym, branch_id, category, completed_cnt, lead_time_cnt, lead_time_minutes_sum,
+   approved_estimate_sum, final_amount_sum)
+SELECT * FROM (
+  SELECT c.ym, c.branch_id, c.category,
+         COUNT(*) AS completed_cnt,
+         COUNT(c.lead_minutes) AS lead_time_cnt,
+         COALESCE(SUM(c.lead_minutes), 0) AS lead_time_minutes_sum,
+         COALESCE(SUM(c.estimate_amount), 0) AS approved_estimate_sum,
+         COALESCE(SUM(c.final_amount), 0) AS final_amount_sum
+  FROM (
+    SELECT DATE_FORMAT(m.work_completed_at, '%Y-%m') AS ym, m.branch_id, m.category,
+           CASE WHEN m.submitted_at IS NOT NULL AND m.work_completed_at >= m.submitted_at
+                THEN TIMESTAMPDIFF(MINUTE, m.submitted_at, m.work_completed_at) END AS lead_minutes,
+           CAST(NULLIF(REGEXP_REPLACE(a.estimate_amount, '[^0-9]', ''), '') AS DECIMAL(18, 2)) AS estimate_amount,
+           a.final_amount AS final_amount
+    FROM maintenance_request m
+    LEFT JOIN maintenance_estimate_attempt a
+      ON a.id = (SELECT a2.id FROM maintenance_estimate_attempt a2
+                 WHERE a2.maintenance_id = m.request_id AND a2.hq_decision = 'APPROVED'
+                 ORDER BY a2.attempt_no DESC LIMIT 1)
+    WHERE m.status = 'COMPLETED'
+      AND m.work_completed_at IS NOT NULL
+  ) c
+  GROUP BY c.ym, c.branch_id, c.category
+) agg
+ON DUPLICATE KEY UPDATE
+  completed_cnt = agg.completed_cnt,
+  lead_time_cnt = agg.lead_time_cnt,
+  lead_time_minutes_sum = agg.lead_time_minutes_sum,
+  approved_estimate_sum = agg.approved_estimate_sum,
+  final_amount_sum = agg.final_amount_sum;
@@ -0,0 +1,7 @@
+-- =========================================================
+-- maintenance_estimate_attempt.estimate_amount: VARCHAR → DECIMAL (1/3)
+-- - 숫자 컬럼을 먼저 추가 (NULL 허용)
+-- - 값 채우기는 V8(배치 backfill), 교체는 V9
+-- =========================================================
+ALTER TABLE maintenance_estimate_attempt
+  ADD COLUMN estimate_amount_value DECIMAL(15, 2) NULL AFTER estimate_amount;
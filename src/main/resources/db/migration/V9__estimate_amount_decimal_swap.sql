@@ -0,0 +1,11 @@
+-- =========================================================
+-- maintenance_estimate_attempt.estimate_amount: VARCHAR → DECIMAL (3/3)
+-- - V8 backfill 이후 문자열 컬럼 제거, 숫자 컬럼을 estimate_amount로 교체
+-- - 금액 집계(SUM/AVG)는 이제 SQL에서 바로 가능
+-- =========================================================
+ALTER TABLE maintenance_estimate_attempt
+  DROP COLUMN estimate_amount,
+  CHANGE COLUMN estimate_amount_value estimate_amount DECIMAL(15, 2) NOT NULL COMMENT '업체 제출 견적가';
+
+ALTER TABLE maintenance_estimate_attempt
+  ADD INDEX idx_mea_decision_decided (hq_decision, hq_decided_at);
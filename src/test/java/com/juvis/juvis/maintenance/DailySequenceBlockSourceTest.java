@@ -0,0 +1,86 @@
+package com.juvis.juvis.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// ✅ 실제 MySQL에서 upsertAndAdvance(LAST_INSERT_ID) + REQUIRES_NEW 경로 검증 (H2는 LAST_INSERT_ID(expr) 미지원)
+// - Docker 없으면 skip
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DailySequenceBlockSource.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드별 REQUIRES_NEW 커밋을 그대로 확인
+@Testcontainers(disabledWithoutDocker = true)
+class DailySequenceBlockSourceTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired DailySequenceBlockSource blockSource;
+
+    @Test
+    void first_block_of_a_day_starts_at_one() {
+        LocalDate day = LocalDate.of(2026, 3, 1);
+
+        assertThat(blockSource.reserve(day, 10)).isEqualTo(1);
+        assertThat(blockSource.reserve(day, 10)).isEqualTo(11);
+        assertThat(blockSource.reserve(day.plusDays(1), 5)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrent_reservations_never_overlap() throws Exception {
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        int threads = 8;
+        int perThread = 50;
+        int blockSize = 5;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> firsts = ConcurrentHashMap.newKeySet();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    firsts.add(blockSource.reserve(day, blockSize));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        // 블록 시작 번호가 모두 다르고, 1부터 빈틈없이 blockSize 간격
+        int total = threads * perThread;
+        assertThat(firsts).hasSize(total);
+        assertThat(firsts).allSatisfy(first -> assertThat((first - 1) % blockSize).isZero());
+        assertThat(firsts.stream().mapToLong(Long::longValue).max().orElseThrow())
+                .isEqualTo((long) (total - 1) * blockSize + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.juvis.juvis.maintenance;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis._core.util.JwtUtil;
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.user.User;
+
+import jakarta.persistence.EntityManager;
+
+// ✅ 상세 응답은 LAZY 컬럼(description 등)을 읽음 → 컨트롤러 밖(세션 종료 후)에서 로딩하면 실패
+// 실제 요청 경로(필터/컨트롤러/서비스 트랜잭션)로 호출해서 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class MaintenanceDetailEndpointTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+
+    private User vendor;
+    private Long maintenanceId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            User requester = new User();
+            requester.setUsername("branch-detail");
+            requester.setPassword("1234");
+            requester.setRole(UserRole.BRANCH);
+            em.persist(requester);
+
+            vendor = new User();
+            vendor.setUsername("vendor-detail");
+            vendor.setPassword("1234");
+            vendor.setRole(UserRole.VENDOR);
+            em.persist(vendor);
+
+            Branch branch = Branch.builder().branchName("상세지점").build();
+            em.persist(branch);
+
+            Maintenance m = Maintenance.builder()
+                    .branch(branch)
+                    .requester(requester)
+                    .vendor(vendor)
+                    .title("상세 조회")
+                    .description("긴 설명")
+                    .status(MaintenanceStatus.ESTIMATING)
+                    .category(MaintenanceCategory.ETC)
+                    .build();
+            em.persist(m);
+            maintenanceId = m.getId();
+        });
+    }
+
+    @Test
+    void vendor_detail_reads_lazy_columns_inside_transaction() throws Exception {
+        mockMvc.perform(get("/api/vendor/maintenance/requests/{id}", maintenanceId)
+                .header(JwtUtil.HEADER, JwtUtil.createAccessToken(vendor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.id").value(maintenanceId))
+                .andExpect(jsonPath("$.body.description").value("긴 설명"));
+    }
+}
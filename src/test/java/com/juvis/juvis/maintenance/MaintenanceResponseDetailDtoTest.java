@@ -3,6 +3,7 @@ package com.juvis.juvis.maintenance;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,7 +39,7 @@ class MaintenanceResponseDetailDtoTest {
 
         // latest attempt dto mock (핵심)
         var a1 = mock(MaintenanceResponse.EstimateAttemptDTO.class);
-        when(a1.getEstimateAmount()).thenReturn("10000");
+        when(a1.getEstimateAmount()).thenReturn(new BigDecimal("10000"));
         when(a1.getEstimateComment()).thenReturn("c");
         when(a1.getWorkStartDate()).thenReturn(LocalDateTime.of(2026, 1, 7, 0, 0));
         when(a1.getWorkEndDate()).thenReturn(LocalDateTime.of(2026, 1, 7, 0, 0));
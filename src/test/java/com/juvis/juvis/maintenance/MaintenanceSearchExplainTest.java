@@ -0,0 +1,198 @@
+package com.juvis.juvis.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.user.User;
+
+import jakarta.persistence.EntityManager;
+
+// ✅ 필터 조합별로 MaintenanceSearchRepository가 만든 SQL을 실제 MySQL에서 EXPLAIN → 인덱스 사용 확인
+// - 인덱스는 엔티티 @Table(indexes)로 생성 (V5와 동일), 값은 inline으로 렌더링해서 SQL 그대로 EXPLAIN
+// - Docker 없으면 skip
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.juvis.juvis.maintenance.MaintenanceSearchExplainTest$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MaintenanceSearchRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // ANALYZE TABLE은 암묵 커밋 → 데이터는 직접 커밋
+@Testcontainers(disabledWithoutDocker = true)
+class MaintenanceSearchExplainTest {
+
+    private static final int BRANCHES = 20;
+    private static final int ROWS = 3000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private static final Pattern TABLE_ALIAS = Pattern.compile("maintenance_request (\\w+)");
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate tx;
+    @Autowired MaintenanceSearchRepository maintenanceSearchRepository;
+
+    private static Long firstBranchId;
+
+    // 커밋된 데이터라 클래스 전체에서 한 번만 적재
+    @BeforeEach
+    void seed() {
+        if (firstBranchId != null)
+            return;
+
+        tx.executeWithoutResult(status -> {
+            User requester = new User();
+            requester.setUsername("explain01");
+            requester.setPassword("1234");
+            requester.setRole(UserRole.BRANCH);
+            em.persist(requester);
+
+            Branch[] branches = new Branch[BRANCHES];
+            for (int i = 0; i < BRANCHES; i++) {
+                branches[i] = Branch.builder().branchName("실행계획지점" + i).build();
+                em.persist(branches[i]);
+            }
+            firstBranchId = branches[0].getId();
+
+            MaintenanceStatus[] statuses = MaintenanceStatus.values();
+            for (int i = 0; i < ROWS; i++) {
+                MaintenanceStatus s = statuses[i % statuses.length];
+                em.persist(Maintenance.builder()
+                        .branch(branches[i % BRANCHES])
+                        .requester(requester)
+                        .title("요청 " + i)
+                        .status(s)
+                        .category(MaintenanceCategory.ETC)
+                        .workCompletedAt(s == MaintenanceStatus.COMPLETED ? BASE.plusDays(i % 730) : null)
+                        .build());
+                if (i % 500 == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+
+        jdbcTemplate.execute("ANALYZE TABLE maintenance_request");
+    }
+
+    static Stream<Arguments> combinations() {
+        LocalDateTime month = BASE.plusMonths(6);
+        return Stream.of(
+                Arguments.of("status", "idx_mr_status_created", false,
+                        cond(MaintenanceStatus.IN_PROGRESS, null, null, null)),
+                Arguments.of("branchId", "idx_mr_branch_created", false,
+                        cond(null, -1L, null, null)),
+                Arguments.of("completed-month", "idx_mr_completed_created", true,
+                        cond(null, null, month, month.plusMonths(1))),
+                // 조건 없음: 정렬 컬럼(created_at) 인덱스를 역순으로 읽고 limit에서 멈춤
+                Arguments.of("none", "idx_mr_created", false,
+                        cond(null, null, null, null)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("combinations")
+    void list_uses_index(String name, String expectedKey, boolean byCompleted, MaintenanceSearchCond cond) {
+        MaintenanceSearchCond c = withBranch(cond);
+        Sort sort = byCompleted
+                ? Sort.by(Sort.Direction.DESC, "workCompletedAt").and(Sort.by(Sort.Direction.DESC, "createdAt"))
+                : Sort.by(Sort.Direction.DESC, "createdAt");
+
+        assertUsesIndex(expectedKey, r -> r.searchForOps(c, PageRequest.of(0, 20, sort)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("combinations")
+    void scroll_uses_index(String name, String expectedKey, boolean byCompleted, MaintenanceSearchCond cond) {
+        MaintenanceSearchCond c = withBranch(cond);
+        MaintenanceCursor cursor = new MaintenanceCursor(
+                byCompleted ? BASE.plusMonths(7) : null, LocalDateTime.now().plusDays(1), Long.MAX_VALUE);
+
+        assertUsesIndex(expectedKey, byCompleted
+                ? r -> r.scrollForOpsByCompleted(c, cursor, 21)
+                : r -> r.scrollForOps(c, cursor, 21));
+    }
+
+    private void assertUsesIndex(String expectedKey, Consumer<MaintenanceSearchRepository> query) {
+        CapturingInspector.SQL.clear();
+        query.accept(maintenanceSearchRepository);
+
+        String sql = CapturingInspector.SQL.stream()
+                .filter(s -> s.contains("maintenance_request"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        Matcher alias = TABLE_ALIAS.matcher(sql);
+        assertThat(alias.find()).as(sql).isTrue();
+
+        // inline 렌더링 후 남는 파라미터는 limit/offset뿐
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql.replace("?", "21"));
+        Map<String, Object> row = plan.stream()
+                .filter(p -> alias.group(1).equals(p.get("table")))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(row.get("type")).as("%s%n%s", sql, plan).isNotEqualTo("ALL");
+        assertThat(row.get("key")).as("%s%n%s", sql, plan).isEqualTo(expectedKey);
+    }
+
+    private static MaintenanceSearchCond cond(
+            MaintenanceStatus status, Long branchId, LocalDateTime completedFrom, LocalDateTime completedTo) {
+        return new MaintenanceSearchCond(status, null, branchId, null, null, completedFrom, completedTo);
+    }
+
+    // 파라미터 소스는 seed 전에 만들어지므로 branchId 자리(-1)는 실제 id로 교체
+    private static MaintenanceSearchCond withBranch(MaintenanceSearchCond cond) {
+        if (cond.branchId() == null)
+            return cond;
+        return new MaintenanceSearchCond(cond.status(), cond.category(), firstBranchId,
+                cond.createdFrom(), cond.createdTo(), cond.completedFrom(), cond.completedTo());
+    }
+
+    // Hibernate가 실행하는 SQL 수집 (설정 프로퍼티로 등록, 기본 생성자 필요)
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.juvis.juvis.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.user.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import(MaintenanceSearchRepository.class)
+class MaintenanceSearchRepositoryTest {
+
+    private static final int BRANCHES = 5;
+    private static final int ROWS = 400;
+
+    @Autowired EntityManager em;
+    @Autowired MaintenanceSearchRepository maintenanceSearchRepository;
+
+    private Long firstBranchId;
+
+    @BeforeEach
+    void setUp() {
+        User requester = new User();
+        requester.setUsername("branch01");
+        requester.setPassword("1234");
+        requester.setRole(UserRole.BRANCH);
+        em.persist(requester);
+
+        Branch[] branches = new Branch[BRANCHES];
+        for (int i = 0; i < BRANCHES; i++) {
+            branches[i] = Branch.builder().branchName("지점" + i).build();
+            em.persist(branches[i]);
+        }
+        firstBranchId = branches[0].getId();
+
+        MaintenanceStatus[] statuses = MaintenanceStatus.values();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+        for (int i = 0; i < ROWS; i++) {
+            MaintenanceStatus status = statuses[i % statuses.length];
+            em.persist(Maintenance.builder()
+                    .branch(branches[i % BRANCHES])
+                    .requester(requester)
+                    .title("요청 " + i)
+                    .status(status)
+                    .category(MaintenanceCategory.ETC)
+                    .workCompletedAt(status == MaintenanceStatus.COMPLETED ? base.plusDays(i % 60) : null)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void search_only_applies_supplied_conditions() {
+        MaintenanceSearchCond cond = new MaintenanceSearchCond(
+                MaintenanceStatus.COMPLETED, null, firstBranchId, null, null, null, null);
+
+        Slice<MaintenanceResponse.SimpleDTO> page = maintenanceSearchRepository.searchForOps(
+                cond, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        long expected = countRows(MaintenanceStatus.COMPLETED, 0);
+        assertThat(maintenanceSearchRepository.countForOps(cond)).isEqualTo(expected);
+        assertThat(page.hasNext()).isEqualTo(expected > 5);
+        assertThat(page.getContent())
+                .hasSizeLessThanOrEqualTo(5)
+                .allSatisfy(dto -> {
+                    assertThat(dto.getStatus()).isEqualTo(MaintenanceStatus.COMPLETED);
+                    assertThat(dto.getBranchName()).isEqualTo("지점0");
+                });
+
+        MaintenanceSearchCond all = new MaintenanceSearchCond(null, null, null, null, null, null, null);
+        assertThat(maintenanceSearchRepository.countForOps(all)).isEqualTo(ROWS);
+    }
+
+    @Test
+    void scroll_visits_every_matching_row_once() {
+        MaintenanceSearchCond cond = new MaintenanceSearchCond(
+                null, null, firstBranchId, null, null, null, null);
+
+        List<Long> createdOrder = new ArrayList<>();
+        List<Long> completedOrder = new ArrayList<>();
+        MaintenanceCursor created = null;
+        MaintenanceCursor completed = null;
+        do {
+            List<MaintenanceResponse.SimpleDTO> rows = maintenanceSearchRepository.scrollForOps(cond, created, 7);
+            rows.forEach(dto -> createdOrder.add(dto.getId()));
+            created = rows.size() < 7 ? null : MaintenanceCursor.of(rows.get(rows.size() - 1));
+        } while (created != null);
+        do {
+            List<MaintenanceResponse.SimpleDTO> rows = maintenanceSearchRepository.scrollForOpsByCompleted(cond, completed, 7);
+            rows.forEach(dto -> completedOrder.add(dto.getId()));
+            completed = rows.size() < 7 ? null : MaintenanceCursor.of(rows.get(rows.size() - 1));
+        } while (completed != null);
+
+        long expected = maintenanceSearchRepository.countForOps(cond);
+        assertThat(createdOrder).hasSize((int) expected).doesNotHaveDuplicates();
+        assertThat(completedOrder).hasSize((int) expected).doesNotHaveDuplicates();
+    }
+
+    // setUp 데이터 기준 기대 건수 (status, branch index)
+    private long countRows(MaintenanceStatus status, int branchIdx) {
+        MaintenanceStatus[] statuses = MaintenanceStatus.values();
+        long n = 0;
+        for (int i = 0; i < ROWS; i++) {
+            if (statuses[i % statuses.length] == status && i % BRANCHES == branchIdx)
+                n++;
+        }
+        return n;
+    }
+}
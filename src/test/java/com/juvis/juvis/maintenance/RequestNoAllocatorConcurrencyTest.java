@@ -0,0 +1,119 @@
+package com.juvis.juvis.maintenance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class RequestNoAllocatorConcurrencyTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    // daily_sequence 행 락을 흉내낸 공유 소스 (두 노드가 같은 DB를 보는 상황)
+    static class InMemoryBlockSource implements SequenceBlockSource {
+        private final Map<LocalDate, Long> seq = new HashMap<>();
+
+        @Override
+        public synchronized long reserve(LocalDate day, int blockSize) {
+            long end = seq.getOrDefault(day, 0L) + blockSize;
+            seq.put(day, end);
+            return end - blockSize + 1;
+        }
+    }
+
+    // 테스트용 가변 시계
+    static class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    void numbers_are_unique_across_two_nodes_and_many_threads() throws Exception {
+        var source = new InMemoryBlockSource();
+        var clock = Clock.fixed(Instant.parse("2026-02-09T03:00:00Z"), SEOUL);
+
+        // 두 앱 인스턴스
+        var nodeA = new RequestNoAllocator(source, 7, 5, clock);
+        var nodeB = new RequestNoAllocator(source, 7, 5, clock);
+
+        int threads = 16;
+        int perThread = 500;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            RequestNoAllocator node = (t % 2 == 0) ? nodeA : nodeB;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    assertTrue(issued.add(node.next()), "duplicate request no");
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        assertEquals(threads * perThread, issued.size());
+        assertTrue(issued.stream().allMatch(no -> no.matches("260209-\\d{5}")));
+    }
+
+    @Test
+    void rolls_over_at_seoul_midnight() {
+        var source = new InMemoryBlockSource();
+        // 2026-02-09 23:59:59 KST
+        var clock = new MutableClock(Instant.parse("2026-02-09T14:59:59Z"));
+        var allocator = new RequestNoAllocator(source, 10, 3, clock);
+
+        assertEquals("260209-001", allocator.next());
+        assertEquals("260209-002", allocator.next());
+
+        // 2026-02-10 00:00:00 KST
+        clock.set(Instant.parse("2026-02-09T15:00:00Z"));
+
+        assertEquals("260210-001", allocator.next());
+    }
+}
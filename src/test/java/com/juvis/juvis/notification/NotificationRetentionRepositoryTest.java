@@ -0,0 +1,130 @@
+package com.juvis.juvis.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.maintenance.Maintenance;
+import com.juvis.juvis.user.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import(NotificationRetentionRepository.class)
+class NotificationRetentionRepositoryTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime OLD = CUTOFF.minusDays(30);
+
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired NotificationRetentionRepository retentionRepository;
+
+    private Long oldRead;      // 읽음 플래그 + 오래됨 → 정리 대상
+    private Long oldUnread;    // 안 읽음 → 유지
+    private Long newRead;      // cutoff 이후 → 유지
+    private Long oldWatermark; // 플래그는 안 읽음이지만 워터마크 이하 → 정리 대상
+
+    @BeforeEach
+    void setUp() {
+        // 엔티티 없는 archive 테이블은 직접 생성 (운영은 V13 migration)
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS notification_archive (
+                  id BIGINT NOT NULL PRIMARY KEY,
+                  user_id BIGINT NOT NULL,
+                  maintenance_id BIGINT NOT NULL,
+                  status VARCHAR(50) NOT NULL,
+                  event_type VARCHAR(30) NOT NULL,
+                  message VARCHAR(255) NOT NULL,
+                  created_at TIMESTAMP(6) NOT NULL,
+                  archived_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL)
+                """);
+
+        User a = user("retention-a");
+        User b = user("retention-b");
+
+        Branch branch = Branch.builder().branchName("정리지점").build();
+        em.persist(branch);
+
+        Maintenance m = Maintenance.builder()
+                .branch(branch)
+                .requester(a)
+                .title("정리")
+                .status(MaintenanceStatus.REQUESTED)
+                .category(MaintenanceCategory.ETC)
+                .build();
+        em.persist(m);
+
+        oldRead = notification(a, m, MaintenanceStatus.REQUESTED, true, OLD);
+        oldUnread = notification(a, m, MaintenanceStatus.ESTIMATING, false, OLD);
+        newRead = notification(a, m, MaintenanceStatus.IN_PROGRESS, true, CUTOFF.plusDays(1));
+        oldWatermark = notification(b, m, MaintenanceStatus.REQUESTED, false, OLD);
+
+        jdbcTemplate.update("INSERT INTO notification_read_state (user_id, last_read_id, updated_at) VALUES (?, ?, ?)",
+                b.getId(), oldWatermark, Timestamp.valueOf(OLD));
+    }
+
+    @Test
+    void archive_moves_only_expired_read_notifications() {
+        int moved = retentionRepository.archiveRange(0, Long.MAX_VALUE, CUTOFF);
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(ids("SELECT id FROM notification")).containsExactlyInAnyOrder(oldUnread, newRead);
+        assertThat(ids("SELECT id FROM notification_archive")).containsExactlyInAnyOrder(oldRead, oldWatermark);
+
+        // 재실행해도 중복/추가 삭제 없음
+        assertThat(retentionRepository.archiveRange(0, Long.MAX_VALUE, CUTOFF)).isZero();
+    }
+
+    @Test
+    void delete_drops_only_expired_read_notifications() {
+        int deleted = retentionRepository.deleteRange(0, Long.MAX_VALUE, CUTOFF);
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(ids("SELECT id FROM notification")).containsExactlyInAnyOrder(oldUnread, newRead);
+        assertThat(ids("SELECT id FROM notification_archive")).isEmpty();
+    }
+
+    @Test
+    void ranges_outside_the_given_ids_are_untouched() {
+        assertThat(retentionRepository.archiveRange(oldUnread, oldUnread, CUTOFF)).isZero();
+        assertThat(ids("SELECT id FROM notification")).hasSize(4);
+    }
+
+    private User user(String username) {
+        User u = new User();
+        u.setUsername(username);
+        u.setPassword("1234");
+        u.setRole(UserRole.HQ);
+        em.persist(u);
+        return u;
+    }
+
+    private Long notification(User user, Maintenance m, MaintenanceStatus status, boolean read, LocalDateTime createdAt) {
+        Notification n = Notification.statusChanged(user, m, status);
+        if (read)
+            n.markRead();
+        em.persist(n);
+        em.flush();
+        jdbcTemplate.update("UPDATE notification SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(createdAt), n.getId());
+        return n.getId();
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
@@ -0,0 +1,181 @@
+package com.juvis.juvis.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.juvis.juvis._core.enums.MaintenanceCategory;
+import com.juvis.juvis._core.enums.MaintenanceStatus;
+import com.juvis.juvis._core.enums.UserRole;
+import com.juvis.juvis.branch.Branch;
+import com.juvis.juvis.maintenance.Maintenance;
+import com.juvis.juvis.user.User;
+import com.juvis.juvis.user_device.UserDevice;
+
+import jakarta.persistence.EntityManager;
+
+// ✅ 상태 변경 → push_outbox(같은 트랜잭션) → 커밋 후 발송 → 실패 시 backoff/FAILED
+// firebase.enabled=false → LocalPushSender가 발송 내역을 메모리에 기록
+// - 폴링은 사실상 끔(poll-delay-ms) → 커밋 후 이벤트 / drain() 직접 호출로만 발송
+// - 다른 @SpringBootTest와 설정이 달라 컨텍스트가 따로 뜸 → H2 DB 이름도 분리 (create-drop 충돌 방지)
+@SpringBootTest(properties = {
+        "firebase.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:push_outbox;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "push.outbox.poll-delay-ms=3600000",
+        "push.outbox.max-attempts=2",
+        "push.outbox.base-backoff-seconds=60"
+})
+class PushOutboxDispatchTest {
+
+    private static final String VENDOR_TOKEN = "token-outbox-vendor";
+
+    private static User vendor;
+    private static Branch branch;
+
+    @Autowired NotificationService notificationService;
+    @Autowired PushOutboxDispatcher dispatcher;
+    @Autowired PushOutboxRepository pushOutboxRepository;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean LocalPushSender pushSender;
+
+    @BeforeEach
+    void setUp() {
+        if (vendor == null) {
+            tx.executeWithoutResult(status -> {
+                vendor = new User();
+                vendor.setUsername("vendor-outbox");
+                vendor.setPassword("1234");
+                vendor.setRole(UserRole.VENDOR);
+                em.persist(vendor);
+
+                branch = Branch.builder().branchName("outbox지점").build();
+                em.persist(branch);
+
+                em.persist(UserDevice.of(vendor, "ANDROID", VENDOR_TOKEN));
+            });
+        }
+
+        jdbcTemplate.update("DELETE FROM push_outbox");
+        pushSender.clear();
+    }
+
+    @Test
+    void status_change_enqueues_in_transaction_and_sends_after_commit() {
+        Long maintenanceId = newMaintenance(MaintenanceStatus.REQUESTED);
+
+        tx.executeWithoutResult(status -> {
+            notificationService.changeStatus(maintenanceId, MaintenanceStatus.ESTIMATING);
+
+            // 커밋 전: 같은 트랜잭션에 PENDING 행, 아직 발송 없음
+            List<PushOutbox> rows = pushOutboxRepository.findAll();
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getState()).isEqualTo(PushOutbox.State.PENDING);
+            assertThat(rows.get(0).userIds()).contains(vendor.getId());
+            assertThat(pushSender.sent()).isEmpty();
+        });
+
+        // 커밋 후: AFTER_COMMIT 이벤트(@Async)로 발송 → SENT
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(onlyRow().getState()).isEqualTo(PushOutbox.State.SENT));
+
+        assertThat(pushSender.sent()).hasSize(1);
+        LocalPushSender.SentPush push = pushSender.sent().get(0);
+        assertThat(push.tokens()).containsExactly(VENDOR_TOKEN);
+        assertThat(push.data())
+                .containsEntry("type", NotificationEventType.STATUS_CHANGED.name())
+                .containsEntry("maintenanceId", String.valueOf(maintenanceId))
+                .containsEntry("status", MaintenanceStatus.ESTIMATING.name());
+        assertThat(onlyRow().getSentAt()).isNotNull();
+    }
+
+    @Test
+    void rolled_back_transaction_leaves_no_row_and_sends_nothing() {
+        Long maintenanceId = newMaintenance(MaintenanceStatus.REQUESTED);
+
+        tx.executeWithoutResult(status -> {
+            notificationService.changeStatus(maintenanceId, MaintenanceStatus.ESTIMATING);
+            status.setRollbackOnly();
+        });
+
+        // 이벤트는 AFTER_COMMIT에서만 → 남은 행이 없으니 drain해도 발송 없음
+        dispatcher.drain();
+
+        assertThat(pushOutboxRepository.count()).isZero();
+        assertThat(pushSender.sent()).isEmpty();
+    }
+
+    @Test
+    void failing_sender_backs_off_then_fails_after_max_attempts() throws Exception {
+        doThrow(new IllegalStateException("fcm down"))
+                .when(pushSender).send(anyList(), anyString(), anyString(), anyMap());
+
+        Long maintenanceId = newMaintenance(MaintenanceStatus.REQUESTED);
+        Long outboxId = tx.execute(status -> pushOutboxRepository.save(PushOutbox.pending(
+                NotificationEventType.STATUS_CHANGED, maintenanceId, MaintenanceStatus.ESTIMATING.name(),
+                "[유지보수] outbox", "요청 상태가 변경되었습니다: ESTIMATING", List.of(vendor.getId()))).getId());
+
+        // 1회차 실패: PENDING 유지, attempts=1, base backoff(60s) 뒤로 재시도
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.drain();
+
+        PushOutbox first = pushOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(first.getState()).isEqualTo(PushOutbox.State.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+        assertThat(first.getLastError()).contains("fcm down");
+
+        // backoff 전에는 다시 가져가지 않음
+        dispatcher.drain();
+        assertThat(pushOutboxRepository.findById(outboxId).orElseThrow().getAttempts()).isEqualTo(1);
+
+        // backoff 경과 → 2회차(max-attempts) 실패 → FAILED
+        jdbcTemplate.update("UPDATE push_outbox SET next_attempt_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), outboxId);
+        dispatcher.drain();
+
+        PushOutbox last = pushOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(last.getState()).isEqualTo(PushOutbox.State.FAILED);
+        assertThat(last.getAttempts()).isEqualTo(2);
+        assertThat(last.getSentAt()).isNull();
+        assertThat(pushSender.sent()).isEmpty();
+    }
+
+    private Long newMaintenance(MaintenanceStatus status) {
+        return tx.execute(s -> {
+            Maintenance m = Maintenance.builder()
+                    .branch(em.getReference(Branch.class, branch.getId()))
+                    .requester(em.getReference(User.class, vendor.getId()))
+                    .vendor(em.getReference(User.class, vendor.getId()))
+                    .title("outbox")
+                    .status(status)
+                    .category(MaintenanceCategory.ETC)
+                    .build();
+            em.persist(m);
+            return m.getId();
+        });
+    }
+
+    private PushOutbox onlyRow() {
+        List<PushOutbox> rows = pushOutboxRepository.findAll();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+}